@@ -0,0 +1,38 @@
+package bricker.benchmarks;
+
+import bricker.main.BrickerGameManager;
+import bricker.simulation.HeadlessRunner;
+import bricker.simulation.PaddleScript;
+import danogl.util.Vector2;
+
+/**
+ * Creates initialized headless games for the benchmarks.
+ */
+public final class HeadlessGames {
+    /**
+     * The dimensions of the game window used by every benchmark.
+     */
+    public static final Vector2 WINDOW_DIMENSIONS = new Vector2(500, 650);
+
+    /**
+     * The fixed time step used by every benchmark, in seconds.
+     */
+    public static final float DELTA_TIME = 1f / 60;
+
+    private HeadlessGames() {
+    }
+
+    /**
+     * Creates a headless runner for a new game and initializes the game.
+     *
+     * @param rows The number of rows in the brick wall.
+     * @param cols The number of columns in the brick wall.
+     * @return The runner driving the initialized game.
+     */
+    public static HeadlessRunner start(int rows, int cols) {
+        BrickerGameManager game = new BrickerGameManager("Bricker", WINDOW_DIMENSIONS, rows, cols);
+        HeadlessRunner runner = new HeadlessRunner(game, PaddleScript.sweep(60));
+        runner.initialize();
+        return runner;
+    }
+}
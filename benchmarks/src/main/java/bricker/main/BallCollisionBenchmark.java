@@ -0,0 +1,46 @@
+package bricker.main;
+
+import bricker.gameobjects.Ball;
+import bricker.gameobjects.EntityKind;
+import danogl.util.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the collision response of a ball.
+ * {@link Ball#onCollisionEnter} only forwards the collision normal to {@link Ball#bounce(Vector2)},
+ * and engine collisions can't be created outside the engine, so the bounce is measured directly.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BallCollisionBenchmark {
+
+    private Ball ball;
+
+    /**
+     * Creates a silent ball moving diagonally.
+     */
+    @Setup
+    public void setUp() {
+        ball = new Ball(Vector2.ZERO, new Vector2(20, 20), null, null, EntityKind.BALL);
+        ball.setVelocity(new Vector2(300, 300));
+    }
+
+    /**
+     * Bounces the ball off a horizontal surface.
+     */
+    @Benchmark
+    public void onCollisionEnter() {
+        ball.bounce(Vector2.UP);
+    }
+}
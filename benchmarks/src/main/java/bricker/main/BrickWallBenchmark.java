@@ -0,0 +1,66 @@
+package bricker.main;
+
+import bricker.benchmarks.HeadlessGames;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks building the brick wall at several wall sizes, with rolled and with seeded strategies.
+ * Every iteration is a single shot that builds a batch of walls into a freshly initialized game, so the
+ * game is set up outside the measurement, bricks only pile up for one batch, and the timer overhead is
+ * shared by the whole batch even for the smallest wall.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 50)
+@Fork(1)
+public class BrickWallBenchmark {
+    private static final int WALLS_PER_SHOT = 4;
+
+    @Param({"7x8", "50x50", "200x200"})
+    public String size;
+
+    @Param({"false", "true"})
+    public boolean seeded;
+
+    private BrickerGameManager game;
+
+    /**
+     * Starts a new headless game to build the walls of the next shot in.
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        String[] dims = size.split("x");
+        game = HeadlessGames.start(Integer.parseInt(dims[0]),
+                Integer.parseInt(dims[1])).getGame();
+        if (seeded) {
+            game.setWallSeed(size.hashCode());
+        }
+    }
+
+    /**
+     * Builds a batch of brick walls. The score is the time of a single wall.
+     */
+    @Benchmark
+    @OperationsPerInvocation(WALLS_PER_SHOT)
+    public void createBrickWall() {
+        for (int i = 0; i < WALLS_PER_SHOT; i++) {
+            game.createBrickWall();
+        }
+    }
+}
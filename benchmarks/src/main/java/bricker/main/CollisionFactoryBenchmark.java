@@ -0,0 +1,46 @@
+package bricker.main;
+
+import bricker.benchmarks.HeadlessGames;
+import bricker.brick_strategies.CollisionFactory;
+import bricker.brick_strategies.CollisionStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks rolling the collision strategy of a single brick.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CollisionFactoryBenchmark {
+
+    private CollisionFactory collisionFactory;
+
+    /**
+     * Creates a collision factory for a new headless game.
+     */
+    @Setup
+    public void setUp() {
+        collisionFactory = new CollisionFactory(
+                HeadlessGames.start(7, 8).getGame());
+    }
+
+    /**
+     * Rolls a top level collision strategy.
+     *
+     * @return The created strategy, so it isn't optimized away.
+     */
+    @Benchmark
+    public CollisionStrategy createCollisionStrategy() {
+        return collisionFactory.createCollisionStrategy(0);
+    }
+}
@@ -0,0 +1,60 @@
+package bricker.main;
+
+import bricker.benchmarks.HeadlessGames;
+import bricker.simulation.HeadlessRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks a full frame of {@link BrickerGameManager#update(float)}, and the out of bounds pass it
+ * runs every frame.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GameUpdateBenchmark {
+
+    @Param({"7", "50", "200"})
+    public int rows;
+
+    @Param({"8", "50", "200"})
+    public int cols;
+
+    private HeadlessRunner runner;
+    private BrickerGameManager game;
+
+    /**
+     * Starts a new headless game.
+     */
+    @Setup
+    public void setUp() {
+        runner = HeadlessGames.start(rows, cols);
+        game = runner.getGame();
+    }
+
+    /**
+     * Simulates a single frame of the game.
+     */
+    @Benchmark
+    public void update() {
+        runner.step(HeadlessGames.DELTA_TIME);
+    }
+
+    /**
+     * Runs the pass that removes the objects that left the window.
+     */
+    @Benchmark
+    public void removeAllOutOfBounds() {
+        game.removeAllOutOfBounds();
+    }
+}
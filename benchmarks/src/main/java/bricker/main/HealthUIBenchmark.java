@@ -0,0 +1,42 @@
+package bricker.main;
+
+import bricker.benchmarks.HeadlessGames;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks the per-frame update of the health UI on a frame where nothing happened.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class HealthUIBenchmark {
+
+    private HealthUI healthUI;
+
+    /**
+     * Creates the health UI of a new headless game.
+     */
+    @Setup
+    public void setUp() {
+        healthUI = new HealthUI(HeadlessGames.start(7, 8).getGame());
+        healthUI.startHealth();
+    }
+
+    /**
+     * Updates the health UI.
+     */
+    @Benchmark
+    public void updateHealth() {
+        healthUI.updateHealth();
+    }
+}
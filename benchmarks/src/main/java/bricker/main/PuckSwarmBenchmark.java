@@ -0,0 +1,70 @@
+package bricker.main;
+
+import bricker.benchmarks.HeadlessGames;
+import bricker.simulation.HeadlessRunner;
+import bricker.simulation.PaddleScript;
+import danogl.util.Vector2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Benchmarks a full frame of a game with a swarm of pucks in play, with serial and parallel physics.
+ * Pucks that fall out of the window are replaced after every frame, so the swarm keeps its size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PuckSwarmBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int pucks;
+
+    @Param({"false", "true"})
+    public boolean parallel;
+
+    private HeadlessRunner runner;
+    private BrickerGameManager game;
+    private Vector2 spawnPoint;
+
+    /**
+     * Starts a new headless game with swarm pucks.
+     */
+    @Setup
+    public void setUp() {
+        game = new BrickerGameManager("Bricker", HeadlessGames.WINDOW_DIMENSIONS, 50, 50);
+        game.setPuckSwarm(true);
+        game.setPhysicsPool(parallel ? ForkJoinPool.commonPool() : null);
+        runner = new HeadlessRunner(game, PaddleScript.sweep(60));
+        runner.initialize();
+        spawnPoint = HeadlessGames.WINDOW_DIMENSIONS.mult(0.5f);
+        refill();
+    }
+
+    /**
+     * Simulates a single frame of the game, then replaces the lost pucks.
+     */
+    @Benchmark
+    public void update() {
+        runner.step(HeadlessGames.DELTA_TIME);
+        refill();
+    }
+
+    /**
+     * Spawns pucks until the swarm is back to its size.
+     */
+    private void refill() {
+        game.spawnPucks(spawnPoint, pucks - game.getPuckSwarm().size());
+    }
+}
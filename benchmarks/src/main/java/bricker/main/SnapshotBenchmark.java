@@ -0,0 +1,63 @@
+package bricker.main;
+
+import bricker.benchmarks.HeadlessGames;
+import bricker.simulation.HeadlessRunner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks taking a snapshot of a game with {@link BrickerGameManager#snapshot()} and restoring it with
+ * {@link BrickerGameManager#restore(GameSnapshot)}, for brick walls of growing size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SnapshotBenchmark {
+
+    @Param({"7", "50", "200"})
+    public int rows;
+
+    @Param({"8", "50", "200"})
+    public int cols;
+
+    private BrickerGameManager game;
+    private GameSnapshot snapshot;
+
+    /**
+     * Starts a new headless game and takes the snapshot restored by {@link #restore()}.
+     */
+    @Setup
+    public void setUp() {
+        HeadlessRunner runner = HeadlessGames.start(rows, cols);
+        game = runner.getGame();
+        snapshot = game.snapshot();
+    }
+
+    /**
+     * Takes a snapshot of the game.
+     *
+     * @return The snapshot, so it isn't optimized away.
+     */
+    @Benchmark
+    public GameSnapshot snapshot() {
+        return game.snapshot();
+    }
+
+    /**
+     * Restores the game to the snapshot taken at the start.
+     */
+    @Benchmark
+    public void restore() {
+        game.restore(snapshot);
+    }
+}
@@ -0,0 +1,149 @@
+package bricker.main;
+
+import bricker.benchmarks.HeadlessGames;
+import bricker.gameobjects.Ball;
+import bricker.gameobjects.Brick;
+import bricker.gameobjects.EntityKind;
+import bricker.simulation.HeadlessRunner;
+import bricker.simulation.PaddleScript;
+import danogl.util.Vector2;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that restoring a snapshot puts back exactly the state it was taken from, and that a restored
+ * game keeps playing.
+ */
+class GameSnapshotTest {
+    private static final int ROWS = 7;
+    private static final int COLS = 8;
+    private static final int PUCKS = 3;
+    private static final int FALL_SPEED = 100;
+    private static final float TICKS_PER_SECOND = 120;
+    private static final int MAX_TICKS_PER_FRAME = 4;
+    //more than enough lost balls to lose every life
+    private static final int MAX_LOST_BALLS = 100;
+
+    private HeadlessRunner runner;
+    private BrickerGameManager game;
+
+    @BeforeEach
+    void setUp() {
+        runner = new HeadlessRunner(new BrickerGameManager("Bricker", HeadlessGames.WINDOW_DIMENSIONS,
+                ROWS, COLS), PaddleScript.IDLE);
+    }
+
+    @Test
+    void restoreRoundTrips() throws IOException {
+        start();
+        byte[] before = bytesOf(game.snapshot());
+        game.restore(game.snapshot());
+        assertArrayEquals(before, bytesOf(game.snapshot()));
+    }
+
+    @Test
+    void restoreRoundTripsThroughStream() throws IOException {
+        start();
+        byte[] before = bytesOf(game.snapshot());
+        game.restore(GameSnapshot.readFrom(new ByteArrayInputStream(before)));
+        assertArrayEquals(before, bytesOf(game.snapshot()));
+    }
+
+    @Test
+    void restoreRoundTripsSeededWall() throws IOException {
+        runner.getGame().setWallSeed(42);
+        start();
+        byte[] before = bytesOf(game.snapshot());
+        game.restore(game.snapshot());
+        assertArrayEquals(before, bytesOf(game.snapshot()));
+    }
+
+    @Test
+    void restoreRoundTripsInFixedTimestepMode() throws IOException {
+        runner.getGame().setFixedTimestep(TICKS_PER_SECOND, MAX_TICKS_PER_FRAME);
+        start();
+        byte[] before = bytesOf(game.snapshot());
+        game.restore(game.snapshot());
+        assertArrayEquals(before, bytesOf(game.snapshot()));
+    }
+
+    @Test
+    void restoreUndoesLaterFrames() throws IOException {
+        start();
+        GameSnapshot snapshot = game.snapshot();
+        for (int i = 0; i < 30; i++) {
+            runner.step(HeadlessGames.DELTA_TIME);
+        }
+        assertFalse(Arrays.equals(bytesOf(snapshot), bytesOf(game.snapshot())),
+                "the game should have moved on");
+        game.restore(snapshot);
+        assertArrayEquals(bytesOf(snapshot), bytesOf(game.snapshot()));
+    }
+
+    @Test
+    void restoredGameKeepsPlayingAfterItEnded() {
+        runner.getGame().setFixedTimestep(TICKS_PER_SECOND, MAX_TICKS_PER_FRAME);
+        runner.setAnswerYes(false);
+        start();
+        GameSnapshot snapshot = game.snapshot();
+        //the ball is dropped out of the window until the game is lost and the window closes
+        for (int i = 0; i < MAX_LOST_BALLS && !runner.isClosed(); i++) {
+            mainBall().setCenter(new Vector2(HeadlessGames.WINDOW_DIMENSIONS.x() / 2,
+                    HeadlessGames.WINDOW_DIMENSIONS.y() * 2));
+            //so the ball isn't moved back to where it was simulated
+            mainBall().savePreviousPosition();
+            runner.step(HeadlessGames.DELTA_TIME);
+        }
+        assertTrue(runner.isClosed(), "the game should be lost");
+        game.restore(snapshot);
+        float startY = mainBall().getTopLeftCorner().y();
+        game.update(HeadlessGames.DELTA_TIME);
+        assertNotEquals(startY, mainBall().getTopLeftCorner().y(), "the restored ball should move");
+    }
+
+    /**
+     * Initializes the game and brings it to a state with broken bricks, pucks, a falling heart and the
+     * extra paddle.
+     */
+    private void start() {
+        runner.initialize();
+        game = runner.getGame();
+        for (int i = game.getEntities().count(EntityKind.BRICK) - 1; i >= 0; i -= 3) {
+            game.removeBrick((Brick) game.getEntities().get(EntityKind.BRICK, i));
+        }
+        Vector2 center = new Vector2(HeadlessGames.WINDOW_DIMENSIONS.x() / 2,
+                HeadlessGames.WINDOW_DIMENSIONS.y() / 2);
+        game.spawnPucks(center, PUCKS);
+        game.addCollisionHeart(center, FALL_SPEED);
+        game.addObject(game.createExtraPaddle());
+        runner.step(HeadlessGames.DELTA_TIME);
+        runner.step(HeadlessGames.DELTA_TIME);
+    }
+
+    /**
+     * @return The main ball of the game.
+     */
+    private Ball mainBall() {
+        return (Ball) game.getEntities().get(EntityKind.BALL, 0);
+    }
+
+    /**
+     * @param snapshot A snapshot.
+     * @return The snapshot in its binary format.
+     */
+    private static byte[] bytesOf(GameSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        snapshot.writeTo(out);
+        return out.toByteArray();
+    }
+}
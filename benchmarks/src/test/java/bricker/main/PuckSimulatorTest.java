@@ -0,0 +1,114 @@
+package bricker.main;
+
+import bricker.gameobjects.Brick;
+import danogl.GameObject;
+import danogl.util.Vector2;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that a swarm stepped on a fork-join pool ends up exactly where the same swarm stepped on the
+ * calling thread does, hitting the same bricks in the same order.
+ */
+class PuckSimulatorTest {
+    private static final Vector2 WINDOW = new Vector2(500, 650);
+    private static final float WALL_SIZE = 10;
+    private static final float PUCK_SIZE = 15;
+    private static final float PUCK_SPEED = 300;
+    private static final int ROWS = 8;
+    private static final int COLS = 7;
+    private static final float BRICK_HEIGHT = 15;
+    private static final int PUCKS = 5000;
+    private static final int STEPS = 300;
+    private static final float DELTA_TIME = 1 / 60f;
+    private static final long SEED = 42;
+
+    private ForkJoinPool pool;
+    private BrickGrid grid;
+    private GameObject[] paddles;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        float brickWidth = (WINDOW.x() - WALL_SIZE * 2) / COLS;
+        grid = new BrickGrid(new Vector2(WALL_SIZE, WALL_SIZE), brickWidth, BRICK_HEIGHT, ROWS, COLS);
+        for (int row = 0; row < ROWS; row++) {
+            for (int col = 0; col < COLS; col++) {
+                grid.put(new Brick(new Vector2(WALL_SIZE + col * brickWidth, WALL_SIZE + row * BRICK_HEIGHT),
+                        new Vector2(brickWidth, BRICK_HEIGHT), null, null, row, col));
+            }
+        }
+        paddles = new GameObject[]{new GameObject(new Vector2(200, 580), new Vector2(100, 15), null)};
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void parallelStepMatchesSerialStep() {
+        PuckSimulator serial = createSwarm(null);
+        PuckSimulator parallel = createSwarm(pool);
+        int totalHits = 0;
+        for (int step = 0; step < STEPS; step++) {
+            int serialHits = serial.step(DELTA_TIME, paddles, grid);
+            int parallelHits = parallel.step(DELTA_TIME, paddles, grid);
+            assertEquals(serialHits, parallelHits, "hits in step " + step);
+            for (int i = 0; i < serialHits; i++) {
+                assertSame(serial.getHit(i), parallel.getHit(i), "hit " + i + " in step " + step);
+            }
+            totalHits += serialHits;
+            assertEquals(serial.removeOutOfBounds(), parallel.removeOutOfBounds(), "removed in step " + step);
+            assertSameSwarm(serial, parallel, step);
+        }
+        assertTrue(totalHits > 0, "the swarm should hit bricks");
+        assertTrue(serial.size() > 1024, "the swarm should be stepped in several tasks");
+    }
+
+    /**
+     * Creates a swarm of pucks in random directions, the same for every call.
+     *
+     * @param pool The pool to step the swarm on, or null to step it on the calling thread.
+     * @return The swarm.
+     */
+    private static PuckSimulator createSwarm(ForkJoinPool pool) {
+        PuckSimulator swarm = new PuckSimulator(PUCK_SIZE, WINDOW, WALL_SIZE);
+        swarm.setPool(pool);
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < PUCKS; i++) {
+            double angle = random.nextDouble() * Math.PI * 2;
+            swarm.spawn((float) random.nextDouble(WALL_SIZE + PUCK_SIZE, WINDOW.x() - WALL_SIZE - PUCK_SIZE),
+                    (float) random.nextDouble(WINDOW.y() / 3, WINDOW.y() / 2),
+                    (float) Math.cos(angle) * PUCK_SPEED, (float) Math.sin(angle) * PUCK_SPEED);
+        }
+        return swarm;
+    }
+
+    /**
+     * Checks that two swarms hold the same pucks, in the same order.
+     *
+     * @param expected The swarm stepped on the calling thread.
+     * @param actual   The swarm stepped on the pool.
+     * @param step     The step the swarms were compared after.
+     */
+    private static void assertSameSwarm(PuckSimulator expected, PuckSimulator actual, int step) {
+        assertEquals(expected.size(), actual.size(), "pucks after step " + step);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.getCenterX(i), actual.getCenterX(i), "x of puck " + i + " in step " + step);
+            assertEquals(expected.getCenterY(i), actual.getCenterY(i), "y of puck " + i + " in step " + step);
+            assertEquals(expected.getVelocityX(i), actual.getVelocityX(i),
+                    "horizontal velocity of puck " + i + " in step " + step);
+            assertEquals(expected.getVelocityY(i), actual.getVelocityY(i),
+                    "vertical velocity of puck " + i + " in step " + step);
+        }
+    }
+}
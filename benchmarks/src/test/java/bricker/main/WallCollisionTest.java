@@ -0,0 +1,162 @@
+package bricker.main;
+
+import bricker.benchmarks.HeadlessGames;
+import bricker.gameobjects.Ball;
+import bricker.gameobjects.Brick;
+import bricker.gameobjects.EntityKind;
+import bricker.simulation.HeadlessRunner;
+import bricker.simulation.PaddleScript;
+import danogl.util.Vector2;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the walls, which are collided by the game rather than by the engine, bounce every kind of
+ * ball off the left, right and top walls, with discrete and with continuous collision.
+ */
+class WallCollisionTest {
+    private static final float SPEED = 300;
+    //far enough from a wall to start clear of it, close enough to reach it in one frame
+    private static final float GAP = 2;
+    //the size of a puck of the swarm
+    private static final float PUCK_SIZE = 15;
+    private static final int ROWS = 7;
+    private static final int COLS = 8;
+    //the columns emptied of bricks, so the top wall is reached without touching a brick
+    private static final int FIRST_EMPTY_COL = 3;
+    private static final int LAST_EMPTY_COL = 4;
+
+    private HeadlessRunner runner;
+    private BrickerGameManager game;
+
+    @BeforeEach
+    void setUp() {
+        runner = new HeadlessRunner(new BrickerGameManager("Bricker", HeadlessGames.WINDOW_DIMENSIONS,
+                ROWS, COLS), PaddleScript.IDLE);
+        runner.initialize();
+        game = runner.getGame();
+    }
+
+    @Test
+    void ballBouncesOffWalls() {
+        assertBouncesOffWalls(mainBall());
+    }
+
+    @Test
+    void ballBouncesOffWallsInContinuousMode() {
+        game.setContinuousCollision(true);
+        assertBouncesOffWalls(mainBall());
+    }
+
+    @Test
+    void puckBouncesOffWalls() {
+        assertBouncesOffWalls(spawnPuck());
+    }
+
+    @Test
+    void puckBouncesOffWallsInContinuousMode() {
+        game.setContinuousCollision(true);
+        assertBouncesOffWalls(spawnPuck());
+    }
+
+    @Test
+    void swarmPuckBouncesOffWalls() {
+        game.setPuckSwarm(true);
+        runner.initialize();
+        clearTopOfWall();
+        float wall = game.getWallSize();
+        PuckSimulator swarm = game.getPuckSwarm();
+        swarm.clear();
+        swarm.spawn(wall + PUCK_SIZE / 2 + GAP, centerY(), -SPEED, 0);
+        runner.step(HeadlessGames.DELTA_TIME);
+        assertTrue(swarm.getVelocityX(0) > 0, "swarm puck should bounce off the left wall");
+        swarm.clear();
+        swarm.spawn(windowWidth() - wall - PUCK_SIZE / 2 - GAP, centerY(), SPEED, 0);
+        runner.step(HeadlessGames.DELTA_TIME);
+        assertTrue(swarm.getVelocityX(0) < 0, "swarm puck should bounce off the right wall");
+        swarm.clear();
+        swarm.spawn(windowWidth() / 2, wall + PUCK_SIZE / 2 + GAP, 0, -SPEED);
+        runner.step(HeadlessGames.DELTA_TIME);
+        assertTrue(swarm.getVelocityY(0) > 0, "swarm puck should bounce off the top wall");
+    }
+
+    /**
+     * Throws a ball at the left, right and top walls in turn, and checks it comes back every time.
+     *
+     * @param ball The ball to throw.
+     */
+    private void assertBouncesOffWalls(Ball ball) {
+        clearTopOfWall();
+        float wall = game.getWallSize();
+        float radius = ball.getDimensions().x() / 2;
+        throwBall(ball, new Vector2(wall + radius + GAP, centerY()), Vector2.LEFT);
+        assertTrue(ball.getVelocity().x() > 0, ball.getKind() + " should bounce off the left wall");
+        throwBall(ball, new Vector2(windowWidth() - wall - radius - GAP, centerY()), Vector2.RIGHT);
+        assertTrue(ball.getVelocity().x() < 0, ball.getKind() + " should bounce off the right wall");
+        throwBall(ball, new Vector2(windowWidth() / 2, wall + radius + GAP), Vector2.UP);
+        assertTrue(ball.getVelocity().y() > 0, ball.getKind() + " should bounce off the top wall");
+    }
+
+    /**
+     * Places a ball, sets it moving and runs a single frame.
+     *
+     * @param ball      The ball to throw.
+     * @param center    The center of the ball before the frame.
+     * @param direction The direction the ball moves in.
+     */
+    private void throwBall(Ball ball, Vector2 center, Vector2 direction) {
+        ball.setCenter(center);
+        ball.setVelocity(direction.mult(SPEED));
+        runner.step(HeadlessGames.DELTA_TIME);
+    }
+
+    /**
+     * @return The main ball of the game.
+     */
+    private Ball mainBall() {
+        return (Ball) game.getEntities().get(EntityKind.BALL, 0);
+    }
+
+    /**
+     * Spawns a single puck and runs a frame, so it is in the game.
+     *
+     * @return The spawned puck.
+     */
+    private Ball spawnPuck() {
+        //the main ball is parked out of the way, so it doesn't hit the puck
+        mainBall().setCenter(new Vector2(windowWidth() / 2, HeadlessGames.WINDOW_DIMENSIONS.y() * 0.75f));
+        mainBall().setVelocity(Vector2.ZERO);
+        game.spawnPucks(new Vector2(windowWidth() / 2, centerY()), 1);
+        runner.step(HeadlessGames.DELTA_TIME);
+        return (Ball) game.getEntities().get(EntityKind.PUCK, 0);
+    }
+
+    /**
+     * Removes the bricks of the middle columns and runs a frame, so the top wall can be reached there.
+     */
+    private void clearTopOfWall() {
+        for (int i = game.getEntities().count(EntityKind.BRICK) - 1; i >= 0; i--) {
+            Brick brick = (Brick) game.getEntities().get(EntityKind.BRICK, i);
+            if (brick.getCol() >= FIRST_EMPTY_COL && brick.getCol() <= LAST_EMPTY_COL) {
+                game.removeBrick(brick);
+            }
+        }
+        runner.step(HeadlessGames.DELTA_TIME);
+    }
+
+    /**
+     * @return A height below the bricks and above the paddle.
+     */
+    private static float centerY() {
+        return HeadlessGames.WINDOW_DIMENSIONS.y() / 2;
+    }
+
+    /**
+     * @return The width of the game window.
+     */
+    private static float windowWidth() {
+        return HeadlessGames.WINDOW_DIMENSIONS.x();
+    }
+}
@@ -29,6 +29,6 @@ import danogl.GameObject;
      */
     @Override
     public void onCollision(GameObject object1, GameObject object2) {
-        brickerGameManager.removeObject(object1);
+        brickerGameManager.removeBrick(object1);
     }
 }
@@ -2,18 +2,36 @@ package bricker.brick_strategies;
 
 import bricker.main.BrickerGameManager;
 
-import java.util.Random;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * A factory class responsible for creating different collision strategies based on the specified depth.
  * The strategies are chosen randomly, with different probabilities for each type.
  * The class provides methods for creating collision strategies such as basic, puck, paddle, turbo, heart,
  * and more.
+ * None of the strategies hold per-brick state, so every strategy is created once and shared by all the
+ * bricks that roll it. Double strategies are compiled into a single {@link CompiledCollisionStrategy}.
  */
  public class CollisionFactory {
 
+    //SplitMix64 constants, used to hash a cell of a seeded wall
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long MIX_1 = 0xBF58476D1CE4E5B9L;
+    private static final long MIX_2 = 0x94D049BB133111EBL;
+
     private final BrickerGameManager brickerGameManager;
-    private final Random rand = new Random();
+    private final RandomGenerator rand;
+
+    //shared strategies
+    private final CollisionStrategy basicStrategy;
+    private final CollisionStrategy puckStrategy;
+    private final CollisionStrategy paddleStrategy;
+    private final CollisionStrategy turboStrategy;
+    private final CollisionStrategy heartStrategy;
+    private final Map<Integer, CollisionStrategy> compiledStrategies = new HashMap<>();
 
     /**
      * Constructs a new bricker.brick_strategies.CollisionFactory instance.
@@ -22,6 +40,12 @@ import java.util.Random;
      */
     public CollisionFactory(BrickerGameManager brickerGameManager) {
         this.brickerGameManager = brickerGameManager;
+        this.rand = brickerGameManager.getRandom();
+        this.basicStrategy = new BasicCollisionStrategy(brickerGameManager);
+        this.puckStrategy = new PuckCollisionStrategy(brickerGameManager);
+        this.paddleStrategy = new PaddleCollisionStrategy(brickerGameManager);
+        this.turboStrategy = new TurboCollisionStrategy(brickerGameManager);
+        this.heartStrategy = new HeartCollisionStrategy(brickerGameManager);
     }
 
     /**
@@ -35,46 +59,131 @@ import java.util.Random;
      * @return A randomly chosen collision strategy based on the given depth.
      */
     public CollisionStrategy createCollisionStrategy(int depth){
-        CollisionStrategy collisionStrategy = null;
+        return strategyFor(rollEffects(depth, rand));
+    }
+
+    /**
+     * Creates the strategy shared by all the bricks of a seeded wall, which rolls the strategy of a
+     * brick only when it is hit.
+     *
+     * @param seed The seed of the wall.
+     * @return The shared seeded strategy.
+     */
+    public CollisionStrategy createSeededStrategy(long seed){
+        return new SeededCollisionStrategy(this, seed);
+    }
+
+    /**
+     * Gets the shared strategy that applies the given effects.
+     *
+     * @param effects The bitmask of the effects, as built by {@link CompiledCollisionStrategy#addEffect}.
+     * @return The strategy applying exactly these effects.
+     */
+    public CollisionStrategy strategyFor(int effects){
+        return switch (effects) {
+            case 0 -> basicStrategy;
+            case 1 << (CompiledCollisionStrategy.PUCK * CompiledCollisionStrategy.BITS_PER_EFFECT) ->
+                    puckStrategy;
+            case 1 << (CompiledCollisionStrategy.PADDLE * CompiledCollisionStrategy.BITS_PER_EFFECT) ->
+                    paddleStrategy;
+            case 1 << (CompiledCollisionStrategy.TURBO * CompiledCollisionStrategy.BITS_PER_EFFECT) ->
+                    turboStrategy;
+            case 1 << (CompiledCollisionStrategy.HEART * CompiledCollisionStrategy.BITS_PER_EFFECT) ->
+                    heartStrategy;
+            default -> compiledStrategies.computeIfAbsent(effects,
+                    mask -> new CompiledCollisionStrategy(brickerGameManager, mask));
+        };
+    }
+
+    /**
+     * Gets the effects applied by a strategy created by this factory, the reverse of
+     * {@link #strategyFor(int)}.
+     *
+     * @param strategy The strategy of a brick.
+     * @return The bitmask of the effects of the strategy, or -1 if it wasn't created by this factory
+     * or its effects are only rolled when the brick is hit.
+     */
+    public int effectsOf(CollisionStrategy strategy){
+        if (strategy == basicStrategy) {
+            return 0;
+        }
+        if (strategy == puckStrategy) {
+            return CompiledCollisionStrategy.addEffect(0, CompiledCollisionStrategy.PUCK);
+        }
+        if (strategy == paddleStrategy) {
+            return CompiledCollisionStrategy.addEffect(0, CompiledCollisionStrategy.PADDLE);
+        }
+        if (strategy == turboStrategy) {
+            return CompiledCollisionStrategy.addEffect(0, CompiledCollisionStrategy.TURBO);
+        }
+        if (strategy == heartStrategy) {
+            return CompiledCollisionStrategy.addEffect(0, CompiledCollisionStrategy.HEART);
+        }
+        if (strategy instanceof CompiledCollisionStrategy) {
+            return ((CompiledCollisionStrategy) strategy).getEffects();
+        }
+        return -1;
+    }
+
+    /**
+     * Rolls the special effects of a cell of a seeded wall.
+     * The result depends only on the seed and the cell, so it is the same every time it is rolled.
+     *
+     * @param seed The seed of the wall.
+     * @param row  The row of the cell.
+     * @param col  The column of the cell.
+     * @return The bitmask of the rolled effects, 0 for a basic strategy.
+     */
+    public int rollEffects(long seed, int row, int col){
+        long cellHash = mix(mix(seed + GOLDEN_GAMMA * (row + 1)) + GOLDEN_GAMMA * (col + 1));
+        return rollEffects(0, new SplittableRandom(cellHash));
+    }
+
+    /**
+     * Randomly rolls the special effects of a brick, following the same probabilities as the strategy
+     * tree described in {@link #createCollisionStrategy(int)}.
+     *
+     * @param depth The depth of the roll.
+     * @param rand  The source of randomness for the roll.
+     * @return The bitmask of the rolled effects, 0 for a basic strategy.
+     */
+    public int rollEffects(int depth, RandomGenerator rand){
         if (depth == 0) {
             int collisionType = rand.nextInt(10);
             //0-4 is basic, 5 is puck, 6 is paddle, 7 is turbo, 8 is extra heart, 9 is double
-            collisionStrategy = switch (collisionType) {
-                case 0, 1, 2, 3, 4 -> new BasicCollisionStrategy(brickerGameManager);
-                case 5 -> new PuckCollisionStrategy(brickerGameManager);
-                case 6 -> new PaddleCollisionStrategy(brickerGameManager);
-                case 7 -> new TurboCollisionStrategy(brickerGameManager);
-                case 8 -> new HeartCollisionStrategy(brickerGameManager);
-                case 9 -> new DoubleCollisionStrategy(brickerGameManager,
-                        createCollisionStrategy(1), createCollisionStrategy(2));
-                default -> collisionStrategy;
+            return switch (collisionType) {
+                case 5 -> CompiledCollisionStrategy.addEffect(0, CompiledCollisionStrategy.PUCK);
+                case 6 -> CompiledCollisionStrategy.addEffect(0, CompiledCollisionStrategy.PADDLE);
+                case 7 -> CompiledCollisionStrategy.addEffect(0, CompiledCollisionStrategy.TURBO);
+                case 8 -> CompiledCollisionStrategy.addEffect(0, CompiledCollisionStrategy.HEART);
+                case 9 -> rollEffects(1, rand) + rollEffects(2, rand);
+                default -> 0;
             };
-            return collisionStrategy;
         }
         //got double in the first random
         else if (depth == 1) {
+            //0 is puck, 1 is paddle, 2 is turbo, 3 is extra heart, 4 is double
             int collisionType = rand.nextInt(5);
-            collisionStrategy = switch (collisionType) {
-                case 0 -> new PuckCollisionStrategy(brickerGameManager);
-                case 1 -> new PaddleCollisionStrategy(brickerGameManager);
-                case 2 -> new TurboCollisionStrategy(brickerGameManager);
-                case 3 -> new HeartCollisionStrategy(brickerGameManager);
-                case 4 -> new DoubleCollisionStrategy(brickerGameManager,
-                        createCollisionStrategy(2), createCollisionStrategy(2));
-                default -> collisionStrategy;
-            };
-            return collisionStrategy;
+            if (collisionType == 4) {
+                return rollEffects(2, rand) + rollEffects(2, rand);
+            }
+            return CompiledCollisionStrategy.addEffect(0, collisionType);
         }
         else{
-            int collisionType = rand.nextInt(4);
-            collisionStrategy = switch (collisionType) {
-                case 0 -> new PuckCollisionStrategy(brickerGameManager);
-                case 1 -> new PaddleCollisionStrategy(brickerGameManager);
-                case 2 -> new TurboCollisionStrategy(brickerGameManager);
-                case 3 -> new HeartCollisionStrategy(brickerGameManager);
-                default -> collisionStrategy;
-            };
-            return collisionStrategy;
+            //0 is puck, 1 is paddle, 2 is turbo, 3 is extra heart
+            return CompiledCollisionStrategy.addEffect(0, rand.nextInt(4));
         }
     }
+
+    /**
+     * Scrambles the bits of a value with the SplitMix64 finalizer.
+     *
+     * @param value The value to scramble.
+     * @return The scrambled value.
+     */
+    private static long mix(long value){
+        value = (value ^ (value >>> 30)) * MIX_1;
+        value = (value ^ (value >>> 27)) * MIX_2;
+        return value ^ (value >>> 31);
+    }
 }
@@ -0,0 +1,104 @@
+package bricker.brick_strategies;
+
+import bricker.main.BrickerGameManager;
+import danogl.GameObject;
+
+/**
+ * A collision strategy that applies several special effects in a single pass.
+ * Instead of nesting double strategies, the effects are compiled into a flat bitmask that holds, for
+ * every effect, the number of times it should be applied. The brick is removed once, and the effects are
+ * only applied if it was still in the game.
+ * <p>
+ * A heart in a double strategy never spawns a heart: the double strategy always removed the brick before
+ * the nested heart strategy ran, and the heart strategy only spawns a heart for a brick it removed itself.
+ * The heart count is still kept in the bitmask, so rolls and snapshots stay the same.
+ */
+public class CompiledCollisionStrategy extends BasicCollisionStrategy {
+    /**
+     * The effect of {@link PuckCollisionStrategy}.
+     */
+    public static final int PUCK = 0;
+    /**
+     * The effect of {@link PaddleCollisionStrategy}.
+     */
+    public static final int PADDLE = 1;
+    /**
+     * The effect of {@link TurboCollisionStrategy}.
+     */
+    public static final int TURBO = 2;
+    /**
+     * The effect of {@link HeartCollisionStrategy}.
+     */
+    public static final int HEART = 3;
+
+    /**
+     * The number of bits holding the count of each effect in an effects bitmask.
+     */
+    public static final int BITS_PER_EFFECT = 2;
+    private static final int COUNT_MASK = (1 << BITS_PER_EFFECT) - 1;
+
+    private final int effects;
+
+    /**
+     * Constructs a new CompiledCollision instance.
+     *
+     * @param brickerGameManager The game manager responsible for managing game objects.
+     * @param effects            The bitmask of the effects to apply, built with {@link #addEffect}.
+     */
+    public CompiledCollisionStrategy(BrickerGameManager brickerGameManager, int effects) {
+        super(brickerGameManager);
+        this.effects = effects;
+    }
+
+    /**
+     * Adds one application of an effect to an effects bitmask.
+     * An effect can be applied at most three times.
+     *
+     * @param effects The bitmask to add to.
+     * @param effect  The effect to add, one of {@link #PUCK}, {@link #PADDLE}, {@link #TURBO} and
+     *                {@link #HEART}.
+     * @return The bitmask with the added effect.
+     */
+    public static int addEffect(int effects, int effect) {
+        return effects + (1 << (effect * BITS_PER_EFFECT));
+    }
+
+    /**
+     * Reads the number of times an effect is applied from an effects bitmask.
+     *
+     * @param effects The bitmask to read.
+     * @param effect  The effect to count.
+     * @return The number of times the effect is applied.
+     */
+    public static int countOf(int effects, int effect) {
+        return (effects >> (effect * BITS_PER_EFFECT)) & COUNT_MASK;
+    }
+
+    /**
+     * Removes the brick and, if it was still in the game, applies the compiled effects.
+     *
+     * @param object1 The first object involved in the collision (the brick).
+     * @param object2 The second object involved in the collision.
+     */
+    @Override
+    public void onCollision(GameObject object1, GameObject object2) {
+        if (!brickerGameManager.removeBrick(object1)) {
+            return;
+        }
+        PuckCollisionStrategy.spawnPucks(brickerGameManager, object1,
+                countOf(effects, PUCK) * PuckCollisionStrategy.PUCKS_PER_HIT);
+        if (countOf(effects, PADDLE) > 0) {
+            PaddleCollisionStrategy.spawnExtraPaddle(brickerGameManager);
+        }
+        if (countOf(effects, TURBO) > 0) {
+            TurboCollisionStrategy.requestTurbo(brickerGameManager, object1);
+        }
+    }
+
+    /**
+     * @return The bitmask of the effects this strategy applies.
+     */
+    public int getEffects() {
+        return effects;
+    }
+}
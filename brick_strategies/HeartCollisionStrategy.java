@@ -1,5 +1,7 @@
 package bricker.brick_strategies;
 
+import bricker.gameobjects.EntityKind;
+import bricker.jfr.SpawnEvent;
 import bricker.main.BrickerGameManager;
 import danogl.GameObject;
 import danogl.util.Vector2;
@@ -31,9 +33,10 @@ import danogl.util.Vector2;
      */
     @Override
     public void onCollision(GameObject object1, GameObject object2) {
-        if (brickerGameManager.removeObject(object1)) {
+        if (brickerGameManager.removeBrick(object1)) {
             brickerGameManager.addCollisionHeart(new Vector2(object1.getCenter().x(),
                     object1.getCenter().y() + SAFE_SPACE), FALL_SPEED);
+            SpawnEvent.emit(EntityKind.HEART.getTag(), 1, object1);
         }
     }
 }
@@ -22,15 +22,26 @@ import danogl.GameObject;
 
     /**
      * Defines the behavior when two game objects collide.
-     * Removes the first object from the game and creates an extra paddle if one doesn't already exist.
+     * Removes the first object from the game and, if it was still in the game, creates an extra paddle
+     * if one doesn't already exist.
      *
      * @param object1 The first object involved in the collision.
      * @param object2 The second object involved in the collision.
      */
     @Override
     public void onCollision(GameObject object1, GameObject object2) {
-        super.onCollision(object1, object2);
-        if(brickerGameManager.hasExtraPaddle()) {
+        if(brickerGameManager.removeBrick(object1)) {
+            spawnExtraPaddle(brickerGameManager);
+        }
+    }
+
+    /**
+     * Adds the extra paddle to the game, unless it is already in it.
+     *
+     * @param brickerGameManager The game manager to add the extra paddle to.
+     */
+    static void spawnExtraPaddle(BrickerGameManager brickerGameManager) {
+        if (brickerGameManager.hasExtraPaddle()) {
             ExtraPaddle extraPaddle = brickerGameManager.createExtraPaddle();
             brickerGameManager.addObject(extraPaddle);
         }
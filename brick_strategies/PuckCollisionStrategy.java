@@ -1,6 +1,7 @@
 package bricker.brick_strategies;
 
-import bricker.gameobjects.Ball;
+import bricker.gameobjects.EntityKind;
+import bricker.jfr.SpawnEvent;
 import bricker.main.BrickerGameManager;
 import danogl.GameObject;
 
@@ -9,6 +10,7 @@ import danogl.GameObject;
  * When a collision occurs, it creates two new puck objects at the collision point.
  */
  public class PuckCollisionStrategy extends BasicCollisionStrategy {
+    static final int PUCKS_PER_HIT = 2;
 
     /**
      * Constructs a new PuckCollision instance.
@@ -21,18 +23,29 @@ import danogl.GameObject;
 
     /**
      * Defines the behavior when a game object collides with the puck.
-     * It creates two new puck objects at the location of the collision.
+     * It creates two new puck objects at the location of the collision, if the brick was still in the game.
      *
      * @param object1 The first object involved in the collision (the puck).
      * @param object2 The second object involved in the collision.
      */
     @Override
     public void onCollision(GameObject object1, GameObject object2) {
-        super.onCollision(object1, object2);
-        for(int i=0; i<2; i++){
-            Ball puck = brickerGameManager.createPuck();
-            puck.setCenter(object1.getCenter());
-            brickerGameManager.addObject(puck);
+        if (brickerGameManager.removeBrick(object1)) {
+            spawnPucks(brickerGameManager, object1, PUCKS_PER_HIT);
+        }
+    }
+
+    /**
+     * Spawns pucks at the center of a brick.
+     *
+     * @param brickerGameManager The game manager to spawn the pucks in.
+     * @param brick              The brick that was hit.
+     * @param count              The number of pucks to spawn.
+     */
+    static void spawnPucks(BrickerGameManager brickerGameManager, GameObject brick, int count) {
+        if (count > 0) {
+            brickerGameManager.spawnPucks(brick.getCenter(), count);
+            SpawnEvent.emit(EntityKind.PUCK.getTag(), count, brick);
         }
     }
 }
@@ -0,0 +1,54 @@
+package bricker.brick_strategies;
+
+import bricker.gameobjects.Brick;
+import danogl.GameObject;
+
+/**
+ * A collision strategy shared by every brick of a seeded wall.
+ * Nothing is stored per brick: when a brick is hit, its strategy is rolled from a hash of the seed and
+ * the brick's cell, so the same seed always gives the same wall, and bricks that are never hit never
+ * roll a strategy at all.
+ */
+public class SeededCollisionStrategy implements CollisionStrategy {
+    private final CollisionFactory collisionFactory;
+    private final long seed;
+
+    /**
+     * Constructs a new SeededCollision instance.
+     *
+     * @param collisionFactory The factory providing the strategies the rolled effects map to.
+     * @param seed             The seed of the wall.
+     */
+    public SeededCollisionStrategy(CollisionFactory collisionFactory, long seed) {
+        this.collisionFactory = collisionFactory;
+        this.seed = seed;
+    }
+
+    /**
+     * Rolls the strategy of the hit brick and applies it.
+     *
+     * @param object1 The first object involved in the collision (the brick).
+     * @param object2 The second object involved in the collision.
+     */
+    @Override
+    public void onCollision(GameObject object1, GameObject object2) {
+        resolve((Brick) object1).onCollision(object1, object2);
+    }
+
+    /**
+     * Rolls the strategy of a brick of the wall.
+     *
+     * @param brick A brick of the wall.
+     * @return The strategy applied when the brick is hit.
+     */
+    public CollisionStrategy resolve(Brick brick) {
+        return collisionFactory.strategyFor(collisionFactory.rollEffects(seed, brick.getRow(), brick.getCol()));
+    }
+
+    /**
+     * @return The seed of the wall.
+     */
+    public long getSeed() {
+        return seed;
+    }
+}
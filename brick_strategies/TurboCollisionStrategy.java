@@ -1,6 +1,7 @@
 package bricker.brick_strategies;
 
 import bricker.main.BrickerGameManager;
+import bricker.main.GameEventType;
 import danogl.GameObject;
 
 /**
@@ -20,16 +21,26 @@ import danogl.GameObject;
 
     /**
      * Defines the behavior when a game object collides with the ball.
-     * If turbo mode is not already active, it activates turbo mode and increases the ball's speed.
+     * Asks the game for turbo mode, which increases the ball's speed if turbo mode is not already active,
+     * if the brick was still in the game.
      *
      * @param object1 The first object involved in the collision (the ball).
      * @param object2 The second object involved in the collision.
      */
     @Override
     public void onCollision(GameObject object1, GameObject object2) {
-        super.onCollision(object1, object2);
-        if(!BrickerGameManager.isTurbo) {
-            brickerGameManager.setTurbo();
+        if (brickerGameManager.removeBrick(object1)) {
+            requestTurbo(brickerGameManager, object1);
         }
     }
+
+    /**
+     * Asks the game to switch the main ball to turbo mode.
+     *
+     * @param brickerGameManager The game manager to ask.
+     * @param brick              The brick that was hit.
+     */
+    static void requestTurbo(BrickerGameManager brickerGameManager, GameObject brick) {
+        brickerGameManager.getEvents().publish(GameEventType.TURBO_REQUESTED, brick);
+    }
 }
@@ -1,6 +1,8 @@
 package bricker.gameobjects;
 
-import bricker.main.BrickerGameManager;
+import bricker.main.GameEventBus;
+import bricker.main.GameEventType;
+import bricker.main.SoundDispatcher;
 import danogl.GameObject;
 import danogl.collisions.Collision;
 import danogl.gui.Sound;
@@ -10,9 +12,10 @@ import danogl.util.Vector2;
  * Represents a ball in the Bricker game.
  * The ball interacts with other game objects and reflects upon collision.
  */
- public class Ball extends GameObject {
-    private int collisionCounter;
+ public class Ball extends Entity {
     private Sound collisionSound;
+    private SoundDispatcher soundDispatcher;
+    private GameEventBus events;
 
     /**
      * Constructs a new bricker.gameobjects.Ball instance.
@@ -22,10 +25,13 @@ import danogl.util.Vector2;
      * @param dimensions     The width and height of the ball in window coordinates.
      * @param renderable     The renderable representation of the ball. Can be null if no rendering is
      *                       needed.
-     * @param collisionSound The sound played when the ball collides with another object.
+     * @param collisionSound The sound played when the ball collides with another object. Can be null if no
+     *                       sound is needed.
+     * @param kind           The kind of the ball, {@link EntityKind#BALL} or {@link EntityKind#PUCK}.
      */
-    public Ball(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable, Sound collisionSound) {
-        super(topLeftCorner, dimensions, renderable);
+    public Ball(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable, Sound collisionSound,
+                EntityKind kind) {
+        super(topLeftCorner, dimensions, renderable, kind);
         this.collisionSound = collisionSound;
     }
 
@@ -39,26 +45,47 @@ import danogl.util.Vector2;
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
         super.onCollisionEnter(other, collision);
-        collisionSound.play();
-        Vector2 newVel = getVelocity().flipped(collision.getNormal());
+        bounce(collision.getNormal());
+    }
+
+    /**
+     * Reflects the ball off a surface with the given normal, playing the collision sound and
+     * publishing the bounce if this is the main ball.
+     *
+     * @param normal The normal of the surface the ball bounced off.
+     */
+    public void bounce(Vector2 normal) {
+        if (collisionSound != null) {
+            if (soundDispatcher != null) {
+                soundDispatcher.request(collisionSound);
+            }
+            else {
+                collisionSound.play();
+            }
+        }
+        Vector2 newVel = getVelocity().flipped(normal);
         setVelocity(newVel);
-        if(BrickerGameManager.isTurbo && this.getTag().equals("ball")) {
-            collisionCounter++;
+        if(events != null && getKind() == EntityKind.BALL) {
+            events.publish(GameEventType.BALL_BOUNCED, this);
         }
     }
 
     /**
-     * @return the amount of times the ball had collisions while in turbo mode
+     * Plays the collision sound through a dispatcher instead of directly.
+     *
+     * @param soundDispatcher The dispatcher to request the collision sound from, or null to play it
+     *                        directly.
      */
-    public int getCollisionCounter() {
-        return collisionCounter;
+    public void setSoundDispatcher(SoundDispatcher soundDispatcher) {
+        this.soundDispatcher = soundDispatcher;
     }
 
     /**
-     * setting the amount of times for turbo, used mainly for restarting the counter
-     * @param collusionCounter number of wanted times for the turbo counter
+     * Sets the event bus the ball publishes its bounces on.
+     *
+     * @param events The event bus of the game the ball belongs to.
      */
-    public void setCollusionCounter(int collusionCounter) {
-        this.collisionCounter = collusionCounter;
+    public void setEventBus(GameEventBus events) {
+        this.events = events;
     }
 }
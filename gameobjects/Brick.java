@@ -1,6 +1,8 @@
 package bricker.gameobjects;
 
 import bricker.brick_strategies.CollisionStrategy;
+import bricker.brick_strategies.SeededCollisionStrategy;
+import bricker.jfr.BrickCollisionEvent;
 import danogl.GameObject;
 import danogl.collisions.Collision;
 import danogl.gui.rendering.Renderable;
@@ -9,8 +11,10 @@ import danogl.util.Vector2;
  * Represents a brick in the Bricker game.
  * A brick interacts with other game objects and triggers a collision strategy when hit.
  */
-public class Brick extends GameObject {
+public class Brick extends Entity {
     private final CollisionStrategy collisionStrategy;
+    private final int row;
+    private final int col;
 
     /**
      * Constructs a new bricker.gameobjects.Brick instance.
@@ -21,11 +25,15 @@ public class Brick extends GameObject {
      * @param renderable        The renderable representation of the brick. Can be null if no rendering is
      *                          needed.
      * @param collisionStrategy The strategy to execute when the brick is involved in a collision.
+     * @param row               The row of the brick in the brick wall.
+     * @param col               The column of the brick in the brick wall.
      */
     public Brick(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
-                 CollisionStrategy collisionStrategy) {
-        super(topLeftCorner, dimensions, renderable);
+                 CollisionStrategy collisionStrategy, int row, int col) {
+        super(topLeftCorner, dimensions, renderable, EntityKind.BRICK);
         this.collisionStrategy = collisionStrategy;
+        this.row = row;
+        this.col = col;
     }
 
     /**
@@ -38,6 +46,58 @@ public class Brick extends GameObject {
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
         super.onCollisionEnter(other, collision);
+        hit(other);
+    }
+
+    /**
+     * Executes the collision strategy of the brick for a hit by the given object.
+     * Slow hits are recorded as flight recorder events.
+     *
+     * @param other The game object that hit the brick.
+     */
+    public void hit(GameObject other) {
+        BrickCollisionEvent event = new BrickCollisionEvent();
+        event.begin();
         collisionStrategy.onCollision(this, other);
+        event.end();
+        if (event.shouldCommit()) {
+            event.row = row;
+            event.col = col;
+            event.strategy = getResolvedStrategy().getClass().getSimpleName();
+            event.hitBy = other.getTag();
+            event.commit();
+        }
+    }
+
+    /**
+     * @return The strategy executed when the brick is hit.
+     */
+    public CollisionStrategy getCollisionStrategy() {
+        return collisionStrategy;
+    }
+
+    /**
+     * @return The strategy that actually runs when the brick is hit. For a brick of a seeded wall, this is
+     * the strategy rolled for its cell rather than the shared seeded strategy.
+     */
+    public CollisionStrategy getResolvedStrategy() {
+        if (collisionStrategy instanceof SeededCollisionStrategy) {
+            return ((SeededCollisionStrategy) collisionStrategy).resolve(this);
+        }
+        return collisionStrategy;
+    }
+
+    /**
+     * @return The row of the brick in the brick wall.
+     */
+    public int getRow() {
+        return row;
+    }
+
+    /**
+     * @return The column of the brick in the brick wall.
+     */
+    public int getCol() {
+        return col;
     }
 }
@@ -0,0 +1,98 @@
+package bricker.gameobjects;
+
+import danogl.GameObject;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+/**
+ * A game object of a known kind.
+ * The kind is fixed when the entity is created, and also used as its tag. An entity also remembers its
+ * slot in the per-kind index of the game, so it can be removed from the index in constant time.
+ */
+public abstract class Entity extends GameObject {
+    private final EntityKind kind;
+    private int indexSlot = -1;
+    private Vector2 previousTopLeft;
+    private Vector2 simulatedTopLeft;
+
+    /**
+     * Constructs a new bricker.gameobjects.Entity instance.
+     *
+     * @param topLeftCorner Position of the entity in window coordinates (pixels).
+     *                      The top-left corner of the window is at (0,0).
+     * @param dimensions    The width and height of the entity in window coordinates.
+     * @param renderable    The renderable representation of the entity. Can be null if no rendering is
+     *                      needed.
+     * @param kind          The kind of the entity.
+     */
+    protected Entity(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable, EntityKind kind) {
+        super(topLeftCorner, dimensions, renderable);
+        this.kind = kind;
+        setTag(kind.getTag());
+    }
+
+    /**
+     * @return The kind of the entity.
+     */
+    public EntityKind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return The slot of the entity in the per-kind index, or -1 if it is not indexed.
+     */
+    public int getIndexSlot() {
+        return indexSlot;
+    }
+
+    /**
+     * Sets the slot of the entity in the per-kind index. Used only by the index itself.
+     *
+     * @param indexSlot The slot of the entity, or -1 if it is not indexed.
+     */
+    public void setIndexSlot(int indexSlot) {
+        this.indexSlot = indexSlot;
+    }
+
+    /**
+     * Remembers the current position of the entity as its position at the previous simulation tick.
+     */
+    public void savePreviousPosition() {
+        previousTopLeft = getTopLeftCorner();
+        simulatedTopLeft = null;
+    }
+
+    /**
+     * Moves the entity, for rendering only, to a point between its positions at the previous and the
+     * current simulation ticks. The simulated position is kept until it is restored.
+     *
+     * @param alpha How far to move from the previous position to the current one, between 0 and 1.
+     */
+    public void showInterpolated(float alpha) {
+        Vector2 current = getTopLeftCorner();
+        simulatedTopLeft = current;
+        if (previousTopLeft != null) {
+            setTopLeftCorner(new Vector2(
+                    previousTopLeft.x() + (current.x() - previousTopLeft.x()) * alpha,
+                    previousTopLeft.y() + (current.y() - previousTopLeft.y()) * alpha));
+        }
+    }
+
+    /**
+     * @return The position of the entity at the current simulation tick, even while it is shown
+     * interpolated.
+     */
+    public Vector2 getSimulatedTopLeftCorner() {
+        return simulatedTopLeft != null ? simulatedTopLeft : getTopLeftCorner();
+    }
+
+    /**
+     * Moves the entity back to its simulated position after it was shown interpolated.
+     */
+    public void restoreSimulatedPosition() {
+        if (simulatedTopLeft != null) {
+            setTopLeftCorner(simulatedTopLeft);
+            simulatedTopLeft = null;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package bricker.gameobjects;
+
+import danogl.GameObject;
+
+/**
+ * The kinds of entities in the Bricker game.
+ * Every entity carries its kind, so game logic can branch on it without comparing string tags.
+ */
+public enum EntityKind {
+    /**
+     * The main ball.
+     */
+    BALL("ball"),
+    /**
+     * A puck spawned by a puck brick.
+     */
+    PUCK("puck"),
+    /**
+     * The paddle controlled by the player.
+     */
+    PADDLE("paddle"),
+    /**
+     * The extra paddle spawned by a paddle brick.
+     */
+    EXTRA_PADDLE("extraPaddle"),
+    /**
+     * A brick of the brick wall.
+     */
+    BRICK("brick"),
+    /**
+     * A heart falling from a heart brick.
+     */
+    HEART("heart"),
+    /**
+     * A heart shown in the health UI.
+     */
+    HUD_HEART("hudHeart"),
+    /**
+     * Any other game object, such as the walls and the background.
+     */
+    OTHER("");
+
+    private final String tag;
+
+    /**
+     * Constructs a new entity kind.
+     *
+     * @param tag The tag of game objects of this kind.
+     */
+    EntityKind(String tag) {
+        this.tag = tag;
+    }
+
+    /**
+     * @return The tag of game objects of this kind.
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * Gets the kind of any game object.
+     *
+     * @param gameObject The game object.
+     * @return The kind of the object, or {@link #OTHER} if it is not an entity.
+     */
+    public static EntityKind of(GameObject gameObject) {
+        return gameObject instanceof Entity ? ((Entity) gameObject).getKind() : OTHER;
+    }
+}
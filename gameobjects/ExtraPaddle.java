@@ -26,13 +26,14 @@ public class ExtraPaddle extends Paddle {
      */
     public ExtraPaddle(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
                        UserInputListener inputListener, Vector2 windowDimensions) {
-        super(topLeftCorner, dimensions, renderable, inputListener, windowDimensions);
+        super(topLeftCorner, dimensions, renderable, inputListener, windowDimensions,
+                EntityKind.EXTRA_PADDLE);
         this.hits = 0;
     }
 
     /**
      * Handles the logic for when the extra paddle collides with another game object.
-     * Increments the hit counter if the colliding object is tagged as "ball" or "puck".
+     * Increments the hit counter if the colliding object is a ball or a puck.
      *
      * @param other     The game object that collided with the paddle.
      * @param collision Information about the collision, including the collision normal.
@@ -40,7 +41,8 @@ public class ExtraPaddle extends Paddle {
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
         super.onCollisionEnter(other, collision);
-        if(other.getTag().equals("ball") || other.getTag().equals("puck")) {
+        EntityKind otherKind = EntityKind.of(other);
+        if(otherKind == EntityKind.BALL || otherKind == EntityKind.PUCK) {
             hits++;
         }
     }
@@ -54,4 +56,13 @@ public class ExtraPaddle extends Paddle {
     public int getHits() {
         return hits;
     }
+
+    /**
+     * Sets the number of times this paddle has been hit, as when a saved game is restored.
+     *
+     * @param hits The hit count.
+     */
+    public void setHits(int hits) {
+        this.hits = hits;
+    }
 }
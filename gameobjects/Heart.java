@@ -1,18 +1,18 @@
 package bricker.gameobjects;
 
-import bricker.main.HealthUI;
+import bricker.main.GameEventBus;
+import bricker.main.GameEventType;
 import danogl.GameObject;
 import danogl.collisions.Collision;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Vector2;
 /**
  * Represents a heart in the Bricker game.
- * A heart interacts with the paddle, and upon collision, it triggers a flag to add a new heart to the
- * health UI.
- * This class also maintains a static reference to the last collided heart to manage its state.
+ * A heart interacts with the paddle, and upon collision, it publishes an event so the game adds a new
+ * heart to the health UI.
  */
-public class Heart extends GameObject {
-    private static Heart collisionHeartDelete;
+public class Heart extends Entity {
+    private GameEventBus events;
 
     /**
      * Constructs a new bricker.gameobjects.Heart instance.
@@ -23,12 +23,26 @@ public class Heart extends GameObject {
      * @param renderable    The renderable representation of the heart. Can be null if no rendering is needed.
      */
     public Heart(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable) {
-        super(topLeftCorner, dimensions, renderable);
+        this(topLeftCorner, dimensions, renderable, EntityKind.HEART);
+    }
+
+    /**
+     * Constructs a new bricker.gameobjects.Heart instance of the given kind.
+     *
+     * @param topLeftCorner Position of the heart in window coordinates (pixels).
+     *                      The top-left corner of the window is at (0,0).
+     * @param dimensions    The width and height of the heart in window coordinates.
+     * @param renderable    The renderable representation of the heart. Can be null if no rendering is needed.
+     * @param kind          The kind of the heart, {@link EntityKind#HEART} for a falling heart or
+     *                      {@link EntityKind#HUD_HEART} for a heart in the health UI.
+     */
+    public Heart(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable, EntityKind kind) {
+        super(topLeftCorner, dimensions, renderable, kind);
     }
 
     /**
      * Handles the logic for when the heart collides with another game object.
-     * If the heart collides with the paddle, a flag is set to add a new heart to the health UI.
+     * If the heart collides with the paddle, an event is published to add a new heart to the health UI.
      *
      * @param other     The game object that collided with the heart.
      * @param collision Information about the collision, including the collision normal.
@@ -36,26 +50,22 @@ public class Heart extends GameObject {
     @Override
     public void onCollisionEnter(GameObject other, Collision collision) {
         super.onCollisionEnter(other, collision);
-        HealthUI.needToAddHeart = true;
-        collisionHeartDelete = this;
+        if (events != null) {
+            events.publish(GameEventType.HEART_CAUGHT, this);
+        }
     }
 
     /**
-     * Gets the reference to the last heart that collided with the paddle.
+     * Sets the event bus the heart publishes its catch on.
      *
-     * @return The heart instance that should be deleted after collision.
+     * @param events The event bus of the game the heart belongs to.
      */
-    public static Heart getCollisionHeartDelete(){
-        return collisionHeartDelete;
+    public void setEventBus(GameEventBus events) {
+        this.events = events;
     }
 
     @Override
     public boolean shouldCollideWith(GameObject other) {
-        return other.getTag().equals("paddle");
+        return EntityKind.of(other) == EntityKind.PADDLE;
     }
-
-    /**
-     * Resets the reference to null.
-     */
-    public static void setCollisionHeart(){collisionHeartDelete = null;}
 }
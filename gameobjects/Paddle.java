@@ -1,6 +1,5 @@
 package bricker.gameobjects;
 
-import danogl.GameObject;
 import danogl.gui.UserInputListener;
 import danogl.gui.rendering.Renderable;
 import danogl.util.Vector2;
@@ -10,7 +9,7 @@ import java.awt.event.KeyEvent;
  * Represents the paddle in the Bricker game.
  * The paddle is controlled by user input and moves horizontally within the game window's bounds.
  */
-public class Paddle extends GameObject {
+public class Paddle extends Entity {
     private static final float MOVEMENT_SPEED = 300;
     private final UserInputListener inputListener;
     private final Vector2 windowDimensions;
@@ -29,7 +28,25 @@ public class Paddle extends GameObject {
      */
     public Paddle(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
                   UserInputListener inputListener, Vector2 windowDimensions) {
-        super(topLeftCorner, dimensions, renderable);
+        this(topLeftCorner, dimensions, renderable, inputListener, windowDimensions, EntityKind.PADDLE);
+    }
+
+    /**
+     * Constructs a new bricker.gameobjects.Paddle instance of the given kind.
+     *
+     * @param topLeftCorner    Position of the paddle in window coordinates (pixels).
+     *                         The top-left corner of the window is at (0,0).
+     * @param dimensions       The width and height of the paddle in window coordinates.
+     * @param renderable       The renderable representation of the paddle. Can be null if no rendering
+     *                         is needed.
+     * @param inputListener    Listener for detecting user input (e.g., arrow keys for movement).
+     * @param windowDimensions The dimensions of the game window, used to ensure the paddle stays within
+     *                         bounds.
+     * @param kind             The kind of the paddle.
+     */
+    protected Paddle(Vector2 topLeftCorner, Vector2 dimensions, Renderable renderable,
+                     UserInputListener inputListener, Vector2 windowDimensions, EntityKind kind) {
+        super(topLeftCorner, dimensions, renderable, kind);
         this.inputListener = inputListener;
         this.windowDimensions = windowDimensions;
     }
@@ -0,0 +1,36 @@
+package bricker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * A flight recorder event for a hit on a brick, timing the collision strategy the hit executed.
+ * Only hits slower than the threshold are recorded by default; set the threshold of
+ * {@code bricker.BrickCollision} to 0 in the recording settings to record every hit.
+ */
+@Name("bricker.BrickCollision")
+@Label("Brick Collision")
+@Category({"Bricker", "Collisions"})
+@Description("A hit on a brick and the collision strategy it executed")
+@StackTrace(false)
+@Threshold("20 us")
+public class BrickCollisionEvent extends Event {
+    @Label("Row")
+    public int row;
+
+    @Label("Column")
+    public int col;
+
+    @Label("Strategy")
+    @Description("The type of the collision strategy of the brick")
+    public String strategy;
+
+    @Label("Hit By")
+    @Description("The tag of the object that hit the brick")
+    public String hitBy;
+}
@@ -0,0 +1,35 @@
+package bricker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event for the game being reset to start a new game.
+ */
+@Name("bricker.GameReset")
+@Label("Game Reset")
+@Category({"Bricker", "Game"})
+@Description("The game was reset to start a new game")
+@StackTrace(false)
+public class GameResetEvent extends Event {
+    @Label("Game")
+    @Description("The number of the new game, counting from 1")
+    public int game;
+
+    /**
+     * Records a game reset, if the event is enabled.
+     *
+     * @param game The number of the new game, counting from 1.
+     */
+    public static void emit(int game) {
+        GameResetEvent event = new GameResetEvent();
+        if (event.shouldCommit()) {
+            event.game = game;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package bricker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event for a life lost when the ball left the window.
+ */
+@Name("bricker.LifeLost")
+@Label("Life Lost")
+@Category({"Bricker", "Game"})
+@Description("The ball left the window and a life was lost")
+@StackTrace(false)
+public class LifeLostEvent extends Event {
+    @Label("Lives Left")
+    public int livesLeft;
+
+    /**
+     * Records a lost life, if the event is enabled.
+     *
+     * @param livesLeft The number of lives left after the loss.
+     */
+    public static void emit(int livesLeft) {
+        LifeLostEvent event = new LifeLostEvent();
+        if (event.shouldCommit()) {
+            event.livesLeft = livesLeft;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package bricker.jfr;
+
+import danogl.GameObject;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event for objects spawned by a broken brick, such as pucks and falling hearts.
+ */
+@Name("bricker.Spawn")
+@Label("Spawn")
+@Category({"Bricker", "Objects"})
+@Description("Objects spawned by a broken brick")
+@StackTrace(false)
+public class SpawnEvent extends Event {
+    @Label("Kind")
+    @Description("The tag of the spawned objects")
+    public String kind;
+
+    @Label("Count")
+    public int count;
+
+    @Label("X")
+    public float x;
+
+    @Label("Y")
+    public float y;
+
+    /**
+     * Records objects spawned at a brick, if the event is enabled.
+     *
+     * @param kind  The tag of the spawned objects.
+     * @param count The number of spawned objects.
+     * @param brick The brick the objects were spawned at.
+     */
+    public static void emit(String kind, int count, GameObject brick) {
+        SpawnEvent event = new SpawnEvent();
+        if (event.shouldCommit()) {
+            event.kind = kind;
+            event.count = count;
+            event.x = brick.getCenter().x();
+            event.y = brick.getCenter().y();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package bricker.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A flight recorder event for the ball entering or leaving turbo mode.
+ */
+@Name("bricker.Turbo")
+@Label("Turbo")
+@Category({"Bricker", "Game"})
+@Description("The ball entered or left turbo mode")
+@StackTrace(false)
+public class TurboEvent extends Event {
+    @Label("Entered")
+    @Description("true if the ball entered turbo mode, false if it left it")
+    public boolean entered;
+
+    /**
+     * Records the ball entering or leaving turbo mode, if the event is enabled.
+     *
+     * @param entered true if the ball entered turbo mode, false if it left it.
+     */
+    public static void emit(boolean entered) {
+        TurboEvent event = new TurboEvent();
+        if (event.shouldCommit()) {
+            event.entered = entered;
+            event.commit();
+        }
+    }
+}
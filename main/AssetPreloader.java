@@ -0,0 +1,61 @@
+package bricker.main;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Reads every asset of the game in the background, on worker threads.
+ * The assets are handed to an {@link AssetRegistry}, so the game only blocks when it requests an
+ * asset that isn't ready yet.
+ * <p>
+ * The preloader doesn't assume the asset source is thread-safe. The game's readers are called through
+ * {@link ReaderAssetSource}, which lets one thread at a time into each reader, so the images are read one
+ * after the other, alongside the sounds and the rest of the game's startup.
+ */
+public class AssetPreloader {
+    //one worker for the images and one for the sounds, as each reader is used by one thread at a time
+    private static final int MAX_THREADS = 2;
+    //images read with a transparent top-left pixel
+    private static final String[] TRANSPARENT_IMAGES = {
+            "assets/ball.png", "assets/paddle.png", "assets/mockBall.png", "assets/brick.png",
+            "assets/redball.png", "assets/botGood.png", "assets/botBad.png", "assets/buffNarrow.png",
+            "assets/buffWiden.png", "assets/gravity.png", "assets/quicken.png", "assets/slow.png"};
+    private static final String[] OPAQUE_IMAGES = {"assets/DARK_BG2_small.jpeg", "assets/heart.png"};
+    private static final String[] SOUNDS = {"assets/blop.wav", "assets/Bubble5_4.wav"};
+
+    private final AssetRegistry assetRegistry;
+
+    /**
+     * Constructs a new bricker.main.AssetPreloader instance.
+     *
+     * @param assetRegistry The registry to preload the assets into.
+     */
+    public AssetPreloader(AssetRegistry assetRegistry) {
+        this.assetRegistry = assetRegistry;
+    }
+
+    /**
+     * Starts reading all the assets in the background and returns without waiting for them.
+     * The worker threads exit once every asset has been read.
+     */
+    public void preloadAll() {
+        int assetCount = TRANSPARENT_IMAGES.length + OPAQUE_IMAGES.length + SOUNDS.length;
+        int threads = Math.min(assetCount, MAX_THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(threads, task -> {
+            Thread thread = new Thread(task, "asset-preloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        //the sounds and the largest image are the slowest, so they are started first
+        for (String path : SOUNDS) {
+            assetRegistry.preloadSound(path, executor);
+        }
+        for (String path : OPAQUE_IMAGES) {
+            assetRegistry.preloadImage(path, false, executor);
+        }
+        for (String path : TRANSPARENT_IMAGES) {
+            assetRegistry.preloadImage(path, true, executor);
+        }
+        executor.shutdown();
+    }
+}
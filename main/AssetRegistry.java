@@ -0,0 +1,196 @@
+package bricker.main;
+
+import danogl.gui.Sound;
+import danogl.gui.rendering.Renderable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * An asset source that reads every asset only once.
+ * The first request of an asset reads it from the underlying source; later requests get the same
+ * shared instance. Assets can also be preloaded in the background, in which case a request only
+ * blocks if the asset isn't ready yet. The registry counts hits and misses, so it can be confirmed
+ * that no asset is read during play.
+ */
+public class AssetRegistry implements AssetSource {
+    private final AssetSource source;
+    private final Map<String, Future<Renderable>> transparentImages = new HashMap<>();
+    private final Map<String, Future<Renderable>> opaqueImages = new HashMap<>();
+    private final Map<String, Future<Sound>> sounds = new HashMap<>();
+    private final Map<String, Long> loadNanos = Collections.synchronizedMap(new LinkedHashMap<>());
+    private int hits;
+    private int misses;
+    private long blockedNanos;
+
+    /**
+     * Constructs a new bricker.main.AssetRegistry instance.
+     *
+     * @param source The source the assets are read from on their first request.
+     */
+    public AssetRegistry(AssetSource source) {
+        this.source = source;
+    }
+
+    /**
+     * Starts reading an image in the background. Does nothing if the image was already requested.
+     *
+     * @param path                      The path of the image file.
+     * @param isTopLeftPixelTransparent Whether the color of the top-left pixel should be transparent.
+     * @param executor                  The executor to read the image on.
+     */
+    public void preloadImage(String path, boolean isTopLeftPixelTransparent, Executor executor) {
+        Map<String, Future<Renderable>> images = isTopLeftPixelTransparent ? transparentImages : opaqueImages;
+        if (!images.containsKey(path)) {
+            images.put(path, submit(path, () -> source.readImage(path, isTopLeftPixelTransparent),
+                    executor));
+        }
+    }
+
+    /**
+     * Starts reading a sound in the background. Does nothing if the sound was already requested.
+     *
+     * @param path     The path of the sound file.
+     * @param executor The executor to read the sound on.
+     */
+    public void preloadSound(String path, Executor executor) {
+        if (!sounds.containsKey(path)) {
+            sounds.put(path, submit(path, () -> source.readSound(path), executor));
+        }
+    }
+
+    /**
+     * Gets an image, reading it from the underlying source only on its first request.
+     *
+     * @param path                      The path of the image file.
+     * @param isTopLeftPixelTransparent Whether the color of the top-left pixel should be transparent.
+     * @return The shared renderable of the image.
+     */
+    @Override
+    public Renderable readImage(String path, boolean isTopLeftPixelTransparent) {
+        Map<String, Future<Renderable>> images = isTopLeftPixelTransparent ? transparentImages : opaqueImages;
+        Future<Renderable> image = images.get(path);
+        if (image != null) {
+            hits++;
+            return await(image);
+        }
+        misses++;
+        image = submit(path, () -> source.readImage(path, isTopLeftPixelTransparent), Runnable::run);
+        images.put(path, image);
+        return await(image);
+    }
+
+    /**
+     * Gets a sound, reading it from the underlying source only on its first request.
+     *
+     * @param path The path of the sound file.
+     * @return The shared sound.
+     */
+    @Override
+    public Sound readSound(String path) {
+        Future<Sound> sound = sounds.get(path);
+        if (sound != null) {
+            hits++;
+            return await(sound);
+        }
+        misses++;
+        sound = submit(path, () -> source.readSound(path), Runnable::run);
+        sounds.put(path, sound);
+        return await(sound);
+    }
+
+    /**
+     * @return The number of requests answered without reading the asset on the requesting thread.
+     */
+    public int getHits() {
+        return hits;
+    }
+
+    /**
+     * @return The number of requests that read the asset on the requesting thread.
+     */
+    public int getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return The total time requests were blocked waiting for preloaded assets, in nanoseconds.
+     */
+    public long getBlockedNanos() {
+        return blockedNanos;
+    }
+
+    /**
+     * @return The time it took to read each asset, in nanoseconds, in the order the reads finished.
+     */
+    public Map<String, Long> getLoadNanos() {
+        synchronized (loadNanos) {
+            return new LinkedHashMap<>(loadNanos);
+        }
+    }
+
+    /**
+     * Reads an asset on the given executor, timing the read.
+     *
+     * @param path     The path of the asset, used to report the read time.
+     * @param reader   Reads the asset from the underlying source.
+     * @param executor The executor to read the asset on.
+     * @param <T>      The type of the asset.
+     * @return The future result of the read.
+     */
+    private <T> Future<T> submit(String path, Callable<T> reader, Executor executor) {
+        FutureTask<T> task = new FutureTask<>(() -> {
+            long start = System.nanoTime();
+            T asset = reader.call();
+            loadNanos.put(path, System.nanoTime() - start);
+            return asset;
+        });
+        executor.execute(task);
+        return task;
+    }
+
+    /**
+     * Waits for an asset to be read, counting the time spent waiting.
+     *
+     * @param asset The future result of the read.
+     * @param <T>   The type of the asset.
+     * @return The read asset.
+     */
+    private <T> T await(Future<T> asset) {
+        if (asset.isDone()) {
+            return join(asset);
+        }
+        long start = System.nanoTime();
+        T result = join(asset);
+        blockedNanos += System.nanoTime() - start;
+        return result;
+    }
+
+    /**
+     * Gets the result of a read, rethrowing its failure on the requesting thread.
+     *
+     * @param asset The future result of the read.
+     * @param <T>   The type of the asset.
+     * @return The read asset.
+     */
+    private static <T> T join(Future<T> asset) {
+        try {
+            return asset.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Failed to read asset", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading asset", e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package bricker.main;
+
+import danogl.gui.Sound;
+import danogl.gui.rendering.Renderable;
+
+/**
+ * A source of the images and sounds used by the game.
+ * Allows the game to run with assets that don't come from a real window, for example when running
+ * without a display.
+ */
+public interface AssetSource {
+
+    /**
+     * Reads an image asset.
+     *
+     * @param path                      The path of the image file.
+     * @param isTopLeftPixelTransparent Whether the color of the top-left pixel should be transparent.
+     * @return The renderable of the image. Can be null if nothing should be rendered.
+     */
+    Renderable readImage(String path, boolean isTopLeftPixelTransparent);
+
+    /**
+     * Reads a sound asset.
+     *
+     * @param path The path of the sound file.
+     * @return The sound. Can be null if nothing should be played.
+     */
+    Sound readSound(String path);
+}
@@ -0,0 +1,151 @@
+package bricker.main;
+
+import bricker.gameobjects.Brick;
+import danogl.util.Vector2;
+
+/**
+ * A spatial index of the brick wall.
+ * Since the bricks are laid out on a regular grid, the cells a bounding box overlaps can be computed
+ * directly from its coordinates, so finding the bricks a ball may touch costs the same no matter how
+ * many bricks the wall has.
+ */
+public class BrickGrid {
+    private final float originX;
+    private final float originY;
+    private final float cellWidth;
+    private final float cellHeight;
+    private final int rows;
+    private final int cols;
+    private final Brick[] cells;
+    private Brick[] candidates;
+
+    /**
+     * Constructs a new bricker.main.BrickGrid instance.
+     *
+     * @param origin     The top-left corner of the brick wall in window coordinates.
+     * @param cellWidth  The width of a single brick.
+     * @param cellHeight The height of a single brick.
+     * @param rows       The number of rows in the brick wall.
+     * @param cols       The number of columns in the brick wall.
+     */
+    public BrickGrid(Vector2 origin, float cellWidth, float cellHeight, int rows, int cols) {
+        this.originX = origin.x();
+        this.originY = origin.y();
+        this.cellWidth = cellWidth;
+        this.cellHeight = cellHeight;
+        this.rows = rows;
+        this.cols = cols;
+        this.cells = new Brick[rows * cols];
+        this.candidates = new Brick[4];
+    }
+
+    /**
+     * Places a brick in its cell.
+     *
+     * @param brick The brick to index.
+     */
+    public void put(Brick brick) {
+        cells[brick.getRow() * cols + brick.getCol()] = brick;
+    }
+
+    /**
+     * Removes a brick from its cell. Does nothing if the cell holds a different brick.
+     *
+     * @param brick The brick to remove from the index.
+     */
+    public void remove(Brick brick) {
+        int cell = brick.getRow() * cols + brick.getCol();
+        if (cells[cell] == brick) {
+            cells[cell] = null;
+        }
+    }
+
+    /**
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @return The brick in the cell, or null if the cell is empty.
+     */
+    public Brick get(int row, int col) {
+        return cells[row * cols + col];
+    }
+
+    /**
+     * Collects the bricks in every cell overlapped by the given bounding box.
+     * The bricks found can be read with {@link #getCandidate(int)} until the next query.
+     *
+     * @param topLeftCorner The top-left corner of the bounding box.
+     * @param dimensions    The width and height of the bounding box.
+     * @return The number of bricks found.
+     */
+    public int query(Vector2 topLeftCorner, Vector2 dimensions) {
+        return query(topLeftCorner.x(), topLeftCorner.y(), dimensions.x(), dimensions.y());
+    }
+
+    /**
+     * Collects the bricks in every cell overlapped by the given bounding box.
+     * The bricks found can be read with {@link #getCandidate(int)} until the next query.
+     *
+     * @param left   The left edge of the bounding box.
+     * @param top    The top edge of the bounding box.
+     * @param width  The width of the bounding box.
+     * @param height The height of the bounding box.
+     * @return The number of bricks found.
+     */
+    public int query(float left, float top, float width, float height) {
+        int maxFound = query(left, top, width, height, candidates);
+        if (maxFound > candidates.length) {
+            candidates = new Brick[maxFound];
+            return query(left, top, width, height, candidates);
+        }
+        return maxFound;
+    }
+
+    /**
+     * Collects the bricks in every cell overlapped by the given bounding box into the given array.
+     * Unlike the other queries, this one doesn't change the grid, so it can be called from several
+     * threads at once.
+     *
+     * @param left   The left edge of the bounding box.
+     * @param top    The top edge of the bounding box.
+     * @param width  The width of the bounding box.
+     * @param height The height of the bounding box.
+     * @param found  The array to put the bricks in.
+     * @return The number of bricks found, or the number of cells overlapped if it is larger than the
+     * array. In that case the bricks must be collected again into a larger array.
+     */
+    public int query(float left, float top, float width, float height, Brick[] found) {
+        float minX = left - originX;
+        float minY = top - originY;
+        float maxX = minX + width;
+        float maxY = minY + height;
+        if (maxX < 0 || maxY < 0 || minX >= cols * cellWidth || minY >= rows * cellHeight) {
+            return 0;
+        }
+        int minCol = Math.max(0, (int) (minX / cellWidth));
+        int maxCol = Math.min(cols - 1, (int) (maxX / cellWidth));
+        int minRow = Math.max(0, (int) (minY / cellHeight));
+        int maxRow = Math.min(rows - 1, (int) (maxY / cellHeight));
+        int maxFound = (maxRow - minRow + 1) * (maxCol - minCol + 1);
+        if (maxFound > found.length) {
+            return maxFound;
+        }
+        int count = 0;
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                Brick brick = cells[row * cols + col];
+                if (brick != null) {
+                    found[count++] = brick;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @param index The index of the candidate, smaller than the result of the last query.
+     * @return The brick found by the last query at the given index.
+     */
+    public Brick getCandidate(int index) {
+        return candidates[index];
+    }
+}
@@ -0,0 +1,131 @@
+package bricker.main;
+
+import bricker.gameobjects.Brick;
+
+/**
+ * Keeps track of the bricks that are still alive in the brick wall.
+ * The registry is updated whenever a brick is added to or removed from the game, so the number of
+ * live bricks (in total, per row and per column) can be read in constant time instead of scanning
+ * every game object.
+ */
+public class BrickRegistry {
+    private final int rows;
+    private final int cols;
+    private final boolean[] alive;
+    private final int[] rowCounts;
+    private final int[] colCounts;
+    private int liveCount;
+
+    /**
+     * Constructs a new bricker.main.BrickRegistry instance for a wall of the given size.
+     *
+     * @param rows The number of rows in the brick wall.
+     * @param cols The number of columns in the brick wall.
+     */
+    public BrickRegistry(int rows, int cols) {
+        this.rows = rows;
+        this.cols = cols;
+        this.alive = new boolean[rows * cols];
+        this.rowCounts = new int[rows];
+        this.colCounts = new int[cols];
+        this.liveCount = 0;
+    }
+
+    /**
+     * Registers a brick as alive. Registering the same cell twice has no effect.
+     *
+     * @param brick The brick that was added to the game.
+     */
+    public void register(Brick brick) {
+        int cell = cellOf(brick);
+        if (alive[cell]) {
+            return;
+        }
+        alive[cell] = true;
+        rowCounts[brick.getRow()]++;
+        colCounts[brick.getCol()]++;
+        liveCount++;
+    }
+
+    /**
+     * Unregisters a brick that was removed from the game.
+     * Unregistering a brick that is not alive has no effect.
+     *
+     * @param brick The brick that was removed from the game.
+     * @return true if the brick was alive and is now unregistered, false otherwise.
+     */
+    public boolean unregister(Brick brick) {
+        int cell = cellOf(brick);
+        if (!alive[cell]) {
+            return false;
+        }
+        alive[cell] = false;
+        rowCounts[brick.getRow()]--;
+        colCounts[brick.getCol()]--;
+        liveCount--;
+        return true;
+    }
+
+    /**
+     * @param row The row of the cell.
+     * @param col The column of the cell.
+     * @return true if the brick in the given cell is still alive, false otherwise.
+     */
+    public boolean isAlive(int row, int col) {
+        return alive[row * cols + col];
+    }
+
+    /**
+     * @return The number of bricks that are still alive.
+     */
+    public int getLiveCount() {
+        return liveCount;
+    }
+
+    /**
+     * @return true if no bricks are left alive, false otherwise.
+     */
+    public boolean isEmpty() {
+        return liveCount == 0;
+    }
+
+    /**
+     * @param row The row to query.
+     * @return The number of bricks that are still alive in the given row.
+     */
+    public int getRowCount(int row) {
+        return rowCounts[row];
+    }
+
+    /**
+     * @param col The column to query.
+     * @return The number of bricks that are still alive in the given column.
+     */
+    public int getColCount(int col) {
+        return colCounts[col];
+    }
+
+    /**
+     * @return The number of rows in the brick wall.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * @return The number of columns in the brick wall.
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Calculates the flat index of the cell a brick belongs to.
+     *
+     * @param brick The brick to locate.
+     * @return The index of the brick's cell.
+     */
+    private int cellOf(Brick brick) {
+        return brick.getRow() * cols + brick.getCol();
+    }
+}
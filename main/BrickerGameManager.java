@@ -2,6 +2,9 @@ package bricker.main;
 
 import bricker.brick_strategies.*;
 import bricker.gameobjects.*;
+import bricker.jfr.GameResetEvent;
+import bricker.jfr.LifeLostEvent;
+import bricker.jfr.TurboEvent;
 import danogl.GameManager;
 import danogl.GameObject;
 import danogl.collisions.GameObjectCollection;
@@ -13,7 +16,10 @@ import danogl.gui.rendering.TextRenderable;
 import danogl.util.Vector2;
 
 import java.awt.event.KeyEvent;
-import java.util.Random;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * The main class for managing the Bricker game.
@@ -30,12 +36,47 @@ public class BrickerGameManager extends GameManager {
     private static final int DEF_ROWS = 7;
     private static final int DEF_COLS = 8;
     private static final int WALL_SIZE = 15;
+    private static final int DEF_POOL_SIZE = 64;
+    //the only kinds of objects that move and can leave the window
+    private static final EntityKind[] DYNAMIC_KINDS = {EntityKind.BALL, EntityKind.PUCK, EntityKind.HEART};
+    //the kinds of objects swept in continuous collision mode
+    private static final EntityKind[] SWEPT_KINDS = {EntityKind.BALL, EntityKind.PUCK};
+    //the kinds of objects shown between ticks in fixed timestep mode
+    private static final EntityKind[] INTERPOLATED_KINDS = {EntityKind.BALL, EntityKind.PUCK,
+            EntityKind.HEART, EntityKind.PADDLE, EntityKind.EXTRA_PADDLE};
+    //the kinds of objects replaced when a snapshot is restored
+    private static final EntityKind[] RESTORED_KINDS = {EntityKind.BALL, EntityKind.PUCK, EntityKind.HEART,
+            EntityKind.EXTRA_PADDLE, EntityKind.BRICK};
+    //the position and velocity of a moving object in a snapshot
+    private static final int BODY_BYTES = 4 * Float.BYTES;
+    //everything in a snapshot but the bricks and the moving objects
+    private static final int SNAPSHOT_HEADER_BYTES = 2 * Integer.BYTES + Long.BYTES + 2 + Integer.BYTES +
+            2 * Float.BYTES + 1 + 2 * Float.BYTES + Integer.BYTES + 1 + Long.BYTES + BODY_BYTES +
+            3 * Integer.BYTES;
 
     //ball
     private static final float BALL_SPEED = 300;
     private static final int BALL_DIM = 20;
-    private final float TURBO_FACTOR = 1.4f;
-    private final int MAX_TURBO = 6;
+    private static final int BALL_POOL_SIZE = 2;
+    private static final float PUCK_DIM = BALL_DIM * 0.75f;
+
+    //sound
+    private static final int SOUND_VOICES = 4;
+    private static final int SOUND_VOICE_MILLIS = 120;
+    private static final int SOUND_REPEAT_MILLIS = 40;
+
+    //events
+    private static final int EVENT_CAPACITY = 256;
+
+    //turbo
+    private static final float TURBO_FACTOR = 1.4f;
+    private static final int MAX_TURBO = 6;
+
+    //collision
+    private static final int MAX_BOUNCES_PER_FRAME = 4;
+
+    //profiling
+    private static final int PROFILER_KEY = KeyEvent.VK_F3;
 
     //brick
     private static final int BRICK_HEIGHT = 15;
@@ -52,17 +93,61 @@ public class BrickerGameManager extends GameManager {
     private final int rows;
     private final int cols;
     private final Vector2 windowDimensions;
-    private ImageReader imageReader;
+    private AssetRegistry assetRegistry;
+    private StartupTimings startupTimings;
+    private AssetSource assetSourceOverride;
     private UserInputListener inputListener;
     private WindowController windowController;
 
     //for objects tracking
     private Ball ball;
+    private BrickRegistry brickRegistry;
+    private BrickGrid brickGrid;
+    private boolean seededWall;
+    private long wallSeed;
+    private final EntityIndex entities = new EntityIndex();
+    private final List<GameObject> outOfBoundsObjects = new ArrayList<>();
+    private final CommandBuffer commands = new CommandBuffer();
+    private final GameRandom rand = new GameRandom(System.nanoTime());
+    private final GameEventBus events = new GameEventBus(EVENT_CAPACITY);
+    private final GameEventBus.Handler eventHandler = this::onEvent;
+
+    //continuous collision
+    private final GameObject[] walls = new GameObject[3];
+    private final SweptCollision sweptCollision = new SweptCollision();
+    private boolean continuousCollision;
+    private float[] sweepStarts = new float[0];
+
+    //fixed timestep
+    private FixedTimestep fixedTimestep;
+    private boolean gameEnded;
+    private int gamesStarted;
+
+    //profiling
+    private final FrameProfiler profiler = new FrameProfiler();
+    private ProfilerOverlay profilerOverlay;
+    private boolean showProfilerOverlay;
+    private boolean profilerKeyDown;
+
+    //puck swarm
+    private boolean swarmPucks;
+    private PuckSimulator puckSwarm;
+    private GameObject puckSwarmObject;
+    private final GameObject[] swarmPaddles = new GameObject[2];
+    private ForkJoinPool physicsPool;
+
+    //pools
+    private int poolCapacity = DEF_POOL_SIZE;
+    private ObjectPool<Ball> ballPool;
+    private ObjectPool<Ball> puckPool;
+    private ObjectPool<Heart> heartPool;
     private TextRenderable healthRender;
 
     //strategies
+    private CollisionFactory collisionFactory;
     private ExtraPaddle extraPaddle;
-    public static boolean isTurbo = false;
+    private boolean turbo;
+    private int turboHits;
 
     //images (and sound)
     private Renderable ballImage;
@@ -72,6 +157,8 @@ public class BrickerGameManager extends GameManager {
     private Renderable brickImage;
     private Renderable turboImage;
     private Sound collisionSound;
+    private final SoundDispatcher soundDispatcher = new SoundDispatcher(SOUND_VOICES, SOUND_VOICE_MILLIS,
+            SOUND_REPEAT_MILLIS);
 
     //Constructors
     /**
@@ -118,24 +205,49 @@ public class BrickerGameManager extends GameManager {
     public void initializeGame(ImageReader imageReader, SoundReader soundReader,
                                UserInputListener inputListener, WindowController windowController) {
         super.initializeGame(imageReader, soundReader, inputListener, windowController);
-        this.imageReader = imageReader;
+        //assets are read once, in parallel, and shared between game resets
+        if (assetRegistry == null) {
+            assetRegistry = new AssetRegistry(assetSourceOverride != null ? assetSourceOverride :
+                    new ReaderAssetSource(imageReader, soundReader));
+            startupTimings = new StartupTimings(assetRegistry);
+            new AssetPreloader(assetRegistry).preloadAll();
+        }
         this.inputListener = inputListener;
         this.windowController = windowController;
         //initialising the hearts here helps when restarting the game
         this.extraPaddle = null;
         this.healthUI = new HealthUI(this);
 
+        gamesStarted++;
+        if (gamesStarted > 1) {
+            GameResetEvent.emit(gamesStarted);
+        }
         //preventing turbo bugs
-        isTurbo = false;
+        turbo = false;
+        turboHits = 0;
+        events.clear();
+        gameEnded = false;
+        if (fixedTimestep != null) {
+            fixedTimestep.reset();
+        }
+        releasePooledObjects();
+        entities.clear();
+        commands.clear();
+        //bricks and walls are collided by the game instead of the engine
+        gameObjects().layers().shouldLayersCollide(Layer.DEFAULT, Layer.STATIC_OBJECTS, false);
 
         //saving images of objects
-        this.ballImage = imageReader.readImage("assets/ball.png", true);
-        this.paddleImage = imageReader.readImage("assets/paddle.png", true);
-        this.puckImage = imageReader.readImage("assets/mockBall.png", true);
-        this.backgroundImage = imageReader.readImage("assets/DARK_BG2_small.jpeg", false);
-        this.brickImage = imageReader.readImage("assets/brick.png", true);
-        this.turboImage = imageReader.readImage("assets/redball.png", true);
-        this.collisionSound = soundReader.readSound("assets/blop.wav");
+        this.ballImage = assetRegistry.readImage("assets/ball.png", true);
+        this.paddleImage = assetRegistry.readImage("assets/paddle.png", true);
+        this.puckImage = assetRegistry.readImage("assets/mockBall.png", true);
+        this.backgroundImage = assetRegistry.readImage("assets/DARK_BG2_small.jpeg", false);
+        this.brickImage = assetRegistry.readImage("assets/brick.png", true);
+        this.turboImage = assetRegistry.readImage("assets/redball.png", true);
+        this.collisionSound = assetRegistry.readSound("assets/blop.wav");
+        startupTimings.markAssetsReady();
+        if (ballPool == null) {
+            createPools();
+        }
 
         //Creating starting objects
         createBackground();
@@ -143,26 +255,90 @@ public class BrickerGameManager extends GameManager {
         createBall();
         createPaddle();
         createBrickWall();
+        if (swarmPucks) {
+            createPuckSwarm();
+        }
         healthUI.startHealth();
+        if (showProfilerOverlay) {
+            profilerOverlay.addTo(this);
+        }
+        applyCommands();
+        startupTimings.markObjectsCreated();
     }
 
     /**
      * Updates the game state. Handles collision strategies, checks win/lose conditions,
      * and updates health UI.
+     * In fixed timestep mode, the game is simulated in the ticks due in the frame, and the moving objects
+     * are shown between their positions at the last two ticks.
      *
      * @param deltaTime The time elapsed since the last update.
      */
     @Override
     public void update(float deltaTime) {
+        //toggled before the frame starts, so a frame is either timed whole or not at all
+        toggleProfilerOnKey();
+        long frameStart = profiler.start();
+        startupTimings.markFirstFrame();
+        if (fixedTimestep == null) {
+            tick(deltaTime);
+        }
+        else {
+            restoreSimulatedPositions();
+            int ticks = fixedTimestep.advance(deltaTime);
+            //nothing is simulated after the game asked to be reset or closed
+            for (int i = 0; i < ticks && !gameEnded; i++) {
+                savePreviousPositions();
+                tick(fixedTimestep.getTickLength());
+            }
+            showInterpolatedPositions(fixedTimestep.getAlpha());
+        }
+        //the sounds of the frame are coalesced and played off the game thread
+        soundDispatcher.flush();
+        profiler.lap(FramePhase.FRAME, frameStart);
+        if (showProfilerOverlay) {
+            profilerOverlay.update();
+        }
+    }
+
+    /**
+     * Simulates the game for a period of time.
+     *
+     * @param deltaTime The time to simulate.
+     */
+    private void tick(float deltaTime) {
+        if (continuousCollision) {
+            saveSweepStarts();
+        }
+        long phaseStart = profiler.start();
         super.update(deltaTime);
+        phaseStart = profiler.lap(FramePhase.ENGINE, phaseStart);
+        //Collide balls and pucks with the walls and the bricks around them
+        if (continuousCollision) {
+            sweepBalls();
+        }
+        else {
+            collideBallsWithBricks();
+        }
+        phaseStart = profiler.lap(FramePhase.BRICK_COLLISIONS, phaseStart);
+        if (swarmPucks) {
+            stepPuckSwarm(deltaTime);
+            phaseStart = profiler.lap(FramePhase.PUCK_SWARM, phaseStart);
+        }
+        //Handle the events published by the collisions
+        events.drain(eventHandler);
+        phaseStart = profiler.lap(FramePhase.EVENTS, phaseStart);
 
         //Update healthUI
         healthUI.updateHealth();
+        phaseStart = profiler.lap(FramePhase.HEALTH, phaseStart);
 
         //Check if ball in bounds and if not create a new one
         ballOutBounds();
+        phaseStart = profiler.lap(FramePhase.BALL_OUT_OF_BOUNDS, phaseStart);
         //Check if game won
         if (isWin()){
+            gameEnded = true;
             if(windowController.openYesNoDialog("You Won! Play Again?")){
                 windowController.resetGame();
             }
@@ -170,20 +346,113 @@ public class BrickerGameManager extends GameManager {
                 windowController.closeWindow();
             }
         }
+        phaseStart = profiler.lap(FramePhase.WIN_CHECK, phaseStart);
         //Delete anything that is out of bounds
-        int cols = ball.getCollisionCounter();
         removeAllOutOfBounds();
-        ball.setCollusionCounter(cols);
+        phaseStart = profiler.lap(FramePhase.OUT_OF_BOUNDS_REMOVAL, phaseStart);
         //Handling Collision strategies
         if(extraPaddle != null){
             if(extraPaddle.getHits() == 4){
-                gameObjects().removeGameObject(extraPaddle);
+                removeObject(extraPaddle);
                 extraPaddle = null;
             }
         }
-        if(ball.getCollisionCounter() == MAX_TURBO){
+        if(turboHits >= MAX_TURBO){
                 removeTurbo();
         }
+        phaseStart = profiler.lap(FramePhase.STRATEGY_CHECKS, phaseStart);
+        //Apply the objects added and removed during the frame
+        applyCommands();
+        profiler.lap(FramePhase.COMMANDS, phaseStart);
+    }
+
+    /**
+     * Switches the profiler and its overlay on or off when the profiler key is pressed.
+     */
+    private void toggleProfilerOnKey(){
+        boolean keyDown = inputListener.isKeyPressed(PROFILER_KEY);
+        if (keyDown && !profilerKeyDown) {
+            boolean show = !showProfilerOverlay;
+            profiler.setEnabled(show);
+            setProfilerOverlay(show);
+        }
+        profilerKeyDown = keyDown;
+    }
+
+    /**
+     * Executes the collision strategy of a brick for a hit by a ball or puck, timing the strategy if the
+     * profiler is on.
+     *
+     * @param brick  The brick that was hit.
+     * @param hitter The ball or puck that hit the brick.
+     */
+    private void hitBrick(Brick brick, GameObject hitter){
+        long start = profiler.start();
+        brick.hit(hitter);
+        if (start != 0) {
+            profiler.recordStrategy(brick.getResolvedStrategy(), start);
+        }
+    }
+
+    /**
+     * Handles an event published during a tick.
+     *
+     * @param type    The type of the event.
+     * @param subject The subject of the event.
+     */
+    private void onEvent(GameEventType type, Object subject){
+        switch (type) {
+            case HEART_CAUGHT -> healthUI.onHeartCaught((Heart) subject);
+            case BALL_BOUNCED -> {
+                if (turbo && subject == ball) {
+                    turboHits++;
+                }
+            }
+            case TURBO_REQUESTED -> {
+                if (!turbo) {
+                    setTurbo();
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies all the additions and removals of game objects recorded since the last call, in the order
+     * they were made. Removed balls, pucks and falling hearts are returned to their pools.
+     */
+    private void applyCommands(){
+        for (int i = 0; i < commands.size(); i++) {
+            GameObject object = commands.objectAt(i);
+            int layer = commands.layerAt(i);
+            if (!commands.isRemovalAt(i)) {
+                gameObjects().addGameObject(object, layer);
+                entities.add(object);
+                if (object instanceof Entity) {
+                    //a new object is shown where it appears until the next tick
+                    ((Entity) object).savePreviousPosition();
+                }
+            }
+            else if (gameObjects().removeGameObject(object, layer)) {
+                entities.remove(object);
+                recycle(object);
+            }
+        }
+        commands.clear();
+    }
+
+    /**
+     * Creates a ball or puck for a pool, playing its collision sound through the sound dispatcher.
+     *
+     * @param dimensions The dimensions of the ball.
+     * @param image      The image of the ball.
+     * @param kind       The kind of the ball.
+     * @return The created ball.
+     */
+    private Ball createPooledBall(Vector2 dimensions, Renderable image, EntityKind kind){
+        Ball ball = new Ball(Vector2.ZERO, dimensions, image, collisionSound, kind);
+        ball.setSoundDispatcher(soundDispatcher);
+        ball.setEventBus(events);
+        return ball;
     }
 
     /**
@@ -198,6 +467,11 @@ public class BrickerGameManager extends GameManager {
 
     /**
      * Creates the walls that define the boundaries of the game area.
+     * Like the bricks, the walls are collided with the balls by the game rather than by the engine.
+     * In continuous collision mode a ball is swept through the walls as well as the bricks, so a fast ball
+     * can't pass through a wall in a long frame. If the engine also bounced the balls off the walls, a
+     * ball would be reflected twice in the frame it hits a wall, once by each, and keep going. Discrete
+     * mode uses the same walls, so both modes bounce the same way.
      */
     private void createWalls(){
         GameObject leftWall = new GameObject(Vector2.ZERO, new Vector2(WALL_SIZE,
@@ -206,21 +480,41 @@ public class BrickerGameManager extends GameManager {
                 new Vector2(WALL_SIZE, windowDimensions.y()), null);
         GameObject upWall = new GameObject(Vector2.ZERO,
                 new Vector2(windowDimensions.x(), WALL_SIZE), null);
-        gameObjects().addGameObject(leftWall);
-        gameObjects().addGameObject(rightWall);
-        gameObjects().addGameObject(upWall);
+        walls[0] = leftWall;
+        walls[1] = rightWall;
+        walls[2] = upWall;
+        for (GameObject wall : walls) {
+            gameObjects().addGameObject(wall, Layer.STATIC_OBJECTS);
+        }
+    }
+
+    /**
+     * Creates the pools of balls, pucks and falling hearts and fills them, so that no such objects are
+     * created during play. The pools are kept between game resets.
+     */
+    private void createPools(){
+        Renderable heartImage = assetRegistry.readImage("assets/heart.png", false);
+        ballPool = new ObjectPool<>(() -> createPooledBall(new Vector2(BALL_DIM, BALL_DIM), ballImage,
+                EntityKind.BALL), BALL_POOL_SIZE);
+        puckPool = new ObjectPool<>(() -> createPooledBall(Vector2.ONES.mult(PUCK_DIM), puckImage,
+                EntityKind.PUCK), poolCapacity);
+        heartPool = new ObjectPool<>(() -> HealthUI.createHeart(heartImage, events), poolCapacity);
+        ballPool.prefill();
+        puckPool.prefill();
+        heartPool.prefill();
     }
 
     /**
      * Creates the ball object, setting its initial position, velocity, and appearance.
+     * Like every other spawned object, the ball is added at the end of the frame.
      */
     private void createBall(){
-        Ball ball = new Ball(Vector2.ZERO, new Vector2(BALL_DIM, BALL_DIM),
-                ballImage, collisionSound);
+        Ball ball = ballPool.acquire();
+        ball.renderer().setRenderable(ballImage);
+        turboHits = 0;
         ball.setCenter(windowDimensions.mult(0.5F));
         float ballVelX = BALL_SPEED;
         float ballVelY = BALL_SPEED;
-        Random rand = new Random();
         if(rand.nextBoolean()){
             ballVelX *= -1;
         }
@@ -228,9 +522,10 @@ public class BrickerGameManager extends GameManager {
             ballVelY *= -1;
         }
         ball.setVelocity(new Vector2(ballVelX, ballVelY));
-        ball.setTag("ball");
+        //a recycled ball is shown where it appears, not interpolated from where it left the last game
+        ball.savePreviousPosition();
         this.ball = ball;
-        gameObjects().addGameObject(ball);
+        addObject(ball);
     }
 
     /**
@@ -240,28 +535,55 @@ public class BrickerGameManager extends GameManager {
         Paddle paddle = new Paddle(Vector2.ZERO, new Vector2(PADDLE_WIDTH,PADDLE_HEIGHT), paddleImage,
                 inputListener, windowDimensions);
         paddle.setCenter(new Vector2(windowDimensions.x()/2, (float) (windowDimensions.y()*0.9)));
-        paddle.setTag("paddle");
         gameObjects().addGameObject(paddle);
+        entities.add(paddle);
     }
 
     /**
      * Creates a wall of bricks based on the number of rows and columns specified.
      */
-    private void createBrickWall(){
-        CollisionFactory collisionFactory= new CollisionFactory(this);
-        float brickWidth = (windowDimensions.x()-(WALL_SIZE*2))/cols;
+    void createBrickWall(){
+        this.collisionFactory = new CollisionFactory(this);
+        //a seeded wall shares one strategy that rolls each brick only when it is hit
+        CollisionStrategy seededStrategy = seededWall ? collisionFactory.createSeededStrategy(wallSeed) : null;
+        startBrickWall();
         for (int i = 0; i < rows; i++) {
             for (int j = 0; j < cols; j++) {
-                float colC = WALL_SIZE+(j*brickWidth);
-                float rowC = WALL_SIZE+(i*BRICK_HEIGHT);
-                Brick brick = new Brick(new Vector2(colC, rowC), new Vector2(brickWidth, BRICK_HEIGHT),
-                        brickImage, collisionFactory.createCollisionStrategy(0));
-                brick.setTag("brick");
-                gameObjects().addGameObject(brick);
+                createBrick(i, j, seededStrategy != null ? seededStrategy :
+                        collisionFactory.createCollisionStrategy(0));
             }
         }
     }
 
+    /**
+     * Starts an empty brick wall, with a new brick registry and brick grid.
+     */
+    private void startBrickWall(){
+        this.brickRegistry = new BrickRegistry(rows, cols);
+        float brickWidth = (windowDimensions.x()-(WALL_SIZE*2))/cols;
+        this.brickGrid = new BrickGrid(new Vector2(WALL_SIZE, WALL_SIZE), brickWidth, BRICK_HEIGHT,
+                rows, cols);
+    }
+
+    /**
+     * Creates a brick in a cell of the wall and adds it to the game right away.
+     *
+     * @param row      The row of the brick.
+     * @param col      The column of the brick.
+     * @param strategy The collision strategy of the brick.
+     */
+    private void createBrick(int row, int col, CollisionStrategy strategy){
+        float brickWidth = (windowDimensions.x()-(WALL_SIZE*2))/cols;
+        float colC = WALL_SIZE+(col*brickWidth);
+        float rowC = WALL_SIZE+(row*BRICK_HEIGHT);
+        Brick brick = new Brick(new Vector2(colC, rowC), new Vector2(brickWidth, BRICK_HEIGHT),
+                brickImage, strategy, row, col);
+        gameObjects().addGameObject(brick, Layer.STATIC_OBJECTS);
+        entities.add(brick);
+        brickRegistry.register(brick);
+        brickGrid.put(brick);
+    }
+
     /**
      * Checks if the player has lost the game.
      *
@@ -281,13 +603,7 @@ public class BrickerGameManager extends GameManager {
         if(inputListener.isKeyPressed(KeyEvent.VK_W)){
             return true;
         }
-        int brickNum = 0;
-        for (GameObject gameObject : gameObjects()) {
-            if (gameObject.getTag().equals("brick")) {
-                brickNum++;
-            }
-        }
-        return brickNum == 0;
+        return brickRegistry.isEmpty();
     }
 
     /**
@@ -305,54 +621,324 @@ public class BrickerGameManager extends GameManager {
 
     /**
      * Removes all game objects that are out of bounds.
+     * Only balls, pucks and falling hearts can leave the window, so only they are checked. The objects
+     * are collected first and removed after the iteration.
      */
-    private void removeAllOutOfBounds(){
-        for (GameObject object : gameObjects()){
-            if(outOfBounds(object)){
-                gameObjects().removeGameObject(object);
+    void removeAllOutOfBounds(){
+        for (EntityKind kind : DYNAMIC_KINDS) {
+            int count = entities.count(kind);
+            for (int i = 0; i < count; i++) {
+                Entity entity = entities.get(kind, i);
+                if (outOfBounds(entity)) {
+                    outOfBoundsObjects.add(entity);
+                }
             }
         }
+        for (int i = 0; i < outOfBoundsObjects.size(); i++) {
+            removeObject(outOfBoundsObjects.get(i));
+        }
+        outOfBoundsObjects.clear();
+    }
+
+    /**
+     * Collides every ball and puck with the walls and the bricks in the grid cells it overlaps.
+     * A ball bounces at most once per frame, but every brick it touches is hit.
+     */
+    //Brick collisions
+    private void collideBallsWithBricks(){
+        collideWithBricks(EntityKind.BALL);
+        collideWithBricks(EntityKind.PUCK);
     }
 
     /**
-     * Removes the specified game object from the game.
+     * Collides every ball of the given kind with the bricks in the grid cells it overlaps.
+     *
+     * @param kind The kind of balls to collide, {@link EntityKind#BALL} or {@link EntityKind#PUCK}.
+     */
+    private void collideWithBricks(EntityKind kind){
+        //pucks spawned by the strategies are collided from the next frame
+        int ballCount = entities.count(kind);
+        for (int i = 0; i < ballCount; i++) {
+            Ball curBall = (Ball) entities.get(kind, i);
+            boolean bounced = false;
+            for (GameObject wall : walls) {
+                Vector2 normal = contactNormal(curBall, wall);
+                if (!bounced && normal != null && curBall.getVelocity().dot(normal) < 0) {
+                    curBall.bounce(normal);
+                    bounced = true;
+                }
+            }
+            int found = brickGrid.query(curBall.getTopLeftCorner(), curBall.getDimensions());
+            for (int j = 0; j < found; j++) {
+                Brick brick = brickGrid.getCandidate(j);
+                Vector2 normal = contactNormal(curBall, brick);
+                if (normal == null) {
+                    continue;
+                }
+                if (!bounced && curBall.getVelocity().dot(normal) < 0) {
+                    curBall.bounce(normal);
+                    bounced = true;
+                }
+                hitBrick(brick, curBall);
+            }
+        }
+    }
+
+    /**
+     * Saves the position of every moving object before a tick, to interpolate from.
+     */
+    //Fixed timestep
+    private void savePreviousPositions(){
+        for (EntityKind kind : INTERPOLATED_KINDS) {
+            int count = entities.count(kind);
+            for (int i = 0; i < count; i++) {
+                entities.get(kind, i).savePreviousPosition();
+            }
+        }
+    }
+
+    /**
+     * Shows every moving object between its positions at the last two ticks.
+     *
+     * @param alpha How far past the previous tick to show the objects, as a part of a tick.
+     */
+    private void showInterpolatedPositions(float alpha){
+        for (EntityKind kind : INTERPOLATED_KINDS) {
+            int count = entities.count(kind);
+            for (int i = 0; i < count; i++) {
+                entities.get(kind, i).showInterpolated(alpha);
+            }
+        }
+    }
+
+    /**
+     * Moves every object shown between ticks back to where it is in the simulation.
+     */
+    private void restoreSimulatedPositions(){
+        for (EntityKind kind : INTERPOLATED_KINDS) {
+            int count = entities.count(kind);
+            for (int i = 0; i < count; i++) {
+                entities.get(kind, i).restoreSimulatedPosition();
+            }
+        }
+    }
+
+    /**
+     * Saves the position of every ball and puck before the engine moves them, as the start of the
+     * sweeps of the frame.
+     */
+    private void saveSweepStarts(){
+        int ballCount = entities.count(EntityKind.BALL) + entities.count(EntityKind.PUCK);
+        if (sweepStarts.length < ballCount * 2) {
+            sweepStarts = new float[ballCount * 4];
+        }
+        int slot = 0;
+        for (EntityKind kind : SWEPT_KINDS) {
+            int count = entities.count(kind);
+            for (int i = 0; i < count; i++) {
+                Vector2 corner = entities.get(kind, i).getTopLeftCorner();
+                sweepStarts[slot++] = corner.x();
+                sweepStarts[slot++] = corner.y();
+            }
+        }
+    }
+
+    /**
+     * Sweeps every ball and puck from its position at the start of the frame to where the engine moved
+     * it, bouncing it off every wall and brick on the way, in the order they are reached.
+     */
+    private void sweepBalls(){
+        int slot = 0;
+        for (EntityKind kind : SWEPT_KINDS) {
+            //pucks spawned during the sweeps are swept from the next frame
+            int count = entities.count(kind);
+            for (int i = 0; i < count; i++) {
+                sweepBall((Ball) entities.get(kind, i), sweepStarts[slot], sweepStarts[slot + 1]);
+                slot += 2;
+            }
+        }
+    }
+
+    /**
+     * Moves a ball along its displacement in the frame, resolving up to
+     * {@value #MAX_BOUNCES_PER_FRAME} hits in the order of their time of impact. The rest of the
+     * displacement after a hit is reflected off the hit surface.
+     *
+     * @param ball   The ball to sweep.
+     * @param startX The left edge of the ball at the start of the frame.
+     * @param startY The top edge of the ball at the start of the frame.
+     */
+    private void sweepBall(Ball ball, float startX, float startY){
+        Vector2 end = ball.getTopLeftCorner();
+        float width = ball.getDimensions().x();
+        float height = ball.getDimensions().y();
+        float x = startX;
+        float y = startY;
+        float dx = end.x() - startX;
+        float dy = end.y() - startY;
+        for (int bounce = 0; bounce < MAX_BOUNCES_PER_FRAME; bounce++) {
+            float firstHit = SweptCollision.NO_HIT;
+            Vector2 hitNormal = null;
+            GameObject hitObject = null;
+            for (GameObject wall : walls) {
+                float time = sweptCollision.timeOfImpact(x, y, width, height, dx, dy, wall);
+                if (time < firstHit) {
+                    firstHit = time;
+                    hitNormal = sweptCollision.getNormal();
+                    hitObject = wall;
+                }
+            }
+            int found = brickGrid.query(new Vector2(Math.min(x, x + dx), Math.min(y, y + dy)),
+                    new Vector2(width + Math.abs(dx), height + Math.abs(dy)));
+            for (int j = 0; j < found; j++) {
+                Brick brick = brickGrid.getCandidate(j);
+                float time = sweptCollision.timeOfImpact(x, y, width, height, dx, dy, brick);
+                if (time < firstHit) {
+                    firstHit = time;
+                    hitNormal = sweptCollision.getNormal();
+                    hitObject = brick;
+                }
+            }
+            if (hitObject == null) {
+                break;
+            }
+            //move to the point of impact and reflect the rest of the displacement
+            x += dx * firstHit;
+            y += dy * firstHit;
+            float rest = 1 - firstHit;
+            dx = hitNormal.x() != 0 ? -dx * rest : dx * rest;
+            dy = hitNormal.y() != 0 ? -dy * rest : dy * rest;
+            if (ball.getVelocity().dot(hitNormal) < 0) {
+                ball.bounce(hitNormal);
+            }
+            if (hitObject instanceof Brick) {
+                hitBrick((Brick) hitObject, ball);
+            }
+        }
+        ball.setTopLeftCorner(new Vector2(x + dx, y + dy));
+    }
+
+    /**
+     * Calculates the normal of the face of a wall or brick a ball is touching.
+     *
+     * @param ball   The ball to check.
+     * @param object The wall or brick to check against.
+     * @return The normal pointing from the object towards the ball, or null if they don't overlap.
+     */
+    private Vector2 contactNormal(Ball ball, GameObject object){
+        Vector2 ballCorner = ball.getTopLeftCorner();
+        Vector2 ballDim = ball.getDimensions();
+        Vector2 brickCorner = object.getTopLeftCorner();
+        Vector2 brickDim = object.getDimensions();
+        float overlapX = Math.min(ballCorner.x() + ballDim.x(), brickCorner.x() + brickDim.x())
+                - Math.max(ballCorner.x(), brickCorner.x());
+        float overlapY = Math.min(ballCorner.y() + ballDim.y(), brickCorner.y() + brickDim.y())
+                - Math.max(ballCorner.y(), brickCorner.y());
+        if (overlapX <= 0 || overlapY <= 0) {
+            return null;
+        }
+        if (overlapX < overlapY) {
+            return ball.getCenter().x() < object.getCenter().x() ? Vector2.LEFT : Vector2.RIGHT;
+        }
+        return ball.getCenter().y() < object.getCenter().y() ? Vector2.UP : Vector2.DOWN;
+    }
+
+    /**
+     * Schedules the specified game object to be removed from the game.
+     * The removal is deferred: the object stays in the game, and in the entity index, until the end of
+     * the frame, when it is removed together with all the other changes of the frame. Code that checks
+     * the game right after this call still sees the object.
      *
      * @param object The game object to remove.
-     * @return true if the object was removed, false otherwise.
+     * @return true if the removal was scheduled, false if the object is already being removed this frame.
+     * The result doesn't say whether the object was in the game.
      */
     //Methods for strategies
     public boolean removeObject(GameObject object){
-        return gameObjects().removeGameObject(object);
+        return commands.remove(object, Layer.DEFAULT);
+    }
+
+    /**
+     * Returns a removed ball, puck or falling heart to its pool. Other objects are left as they are.
+     *
+     * @param object The object that was removed from the game.
+     */
+    private void recycle(GameObject object){
+        switch (EntityKind.of(object)) {
+            case HEART -> heartPool.release((Heart) object);
+            case PUCK -> puckPool.release((Ball) object);
+            case BALL -> ballPool.release((Ball) object);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Returns the balls, pucks and falling hearts of the last game to their pools when the game is reset,
+     * including those still waiting to be added, so the pools keep them for the next game.
+     */
+    private void releasePooledObjects(){
+        for (EntityKind kind : DYNAMIC_KINDS) {
+            for (int i = 0; i < entities.count(kind); i++) {
+                recycle(entities.get(kind, i));
+            }
+        }
+        for (int i = 0; i < commands.size(); i++) {
+            if (!commands.isRemovalAt(i)) {
+                recycle(commands.objectAt(i));
+            }
+        }
+    }
+
+    /**
+     * Removes a brick from the game at the end of the frame.
+     * The brick leaves the brick registry and the brick grid right away, so it can't be hit again.
+     *
+     * @param brick The brick to remove.
+     * @return true if the brick was still alive, false if it was already removed.
+     */
+    public boolean removeBrick(GameObject brick){
+        if (brick instanceof Brick) {
+            if (!brickRegistry.unregister((Brick) brick)) {
+                return false;
+            }
+            brickGrid.remove((Brick) brick);
+        }
+        return commands.remove(brick, Layer.STATIC_OBJECTS);
     }
 
     /**
-     * Removes the specified game object from the game in a specific layer.
+     * Schedules the specified game object to be removed from a specific layer of the game.
+     * The removal is deferred to the end of the frame, as described in {@link #removeObject(GameObject)}.
      *
      * @param object The game object to remove.
      * @param Layer  The layer from which to remove the object.
-     * @return true if the object was removed, false otherwise.
+     * @return true if the removal was scheduled, false if the object is already being removed this frame.
+     * The result doesn't say whether the object was in the game.
      */
     public boolean removeObject(GameObject object, int Layer){
-        return gameObjects().removeGameObject(object, Layer);
+        return commands.remove(object, Layer);
     }
 
     /**
      * Adds a game object to the game.
+     * The object is added at the end of the frame.
      *
      * @param object The game object to add.
      */
     public void addObject(GameObject object){
-        gameObjects().addGameObject(object);
+        commands.add(object, Layer.DEFAULT);
     }
 
     /**
      * Adds a game object to the game in a specific layer.
+     * The object is added at the end of the frame.
      *
      * @param object The game object to add.
      * @param Layer  The layer in which to add the object.
      */
     public void addObject(GameObject object, int Layer){
-        gameObjects().addGameObject(object, Layer);
+        commands.add(object, Layer);
     }
 
     /**
@@ -361,15 +947,292 @@ public class BrickerGameManager extends GameManager {
      * @return The created puck object.
      */
     public Ball createPuck(){
-        Ball puck = new Ball(Vector2.ZERO, Vector2.ONES.mult(BALL_DIM*0.75f),
-                puckImage, collisionSound);
-        Random rand = new Random();
+        Ball puck = puckPool.acquire();
+        puck.setVelocity(randomPuckVelocity());
+        return puck;
+    }
+
+    /**
+     * Spawns pucks flying in random directions, as game objects or as part of the puck swarm.
+     *
+     * @param center The center of the spawned pucks.
+     * @param count  The number of pucks to spawn.
+     */
+    public void spawnPucks(Vector2 center, int count){
+        for (int i = 0; i < count; i++) {
+            if (swarmPucks) {
+                Vector2 velocity = randomPuckVelocity();
+                puckSwarm.spawn(center.x(), center.y(), velocity.x(), velocity.y());
+            }
+            else {
+                Ball puck = createPuck();
+                puck.setCenter(center);
+                addObject(puck);
+            }
+        }
+    }
+
+    /**
+     * @return A velocity of a puck, in a random downward direction.
+     */
+    private Vector2 randomPuckVelocity(){
         double angle = rand.nextDouble() * Math.PI;
         float velX = (float)Math.cos(angle) * BALL_SPEED;
         float velY = (float)Math.sin(angle) * BALL_SPEED;
-        puck.setVelocity(new Vector2(velX, velY));
-        puck.setTag("puck");
-        return puck;
+        return new Vector2(velX, velY);
+    }
+
+    /**
+     * Creates the puck swarm the first time, empties it and adds it to the game.
+     */
+    //Puck swarm
+    private void createPuckSwarm(){
+        if (puckSwarm == null) {
+            puckSwarm = new PuckSimulator(PUCK_DIM, windowDimensions, WALL_SIZE);
+            puckSwarmObject = new GameObject(Vector2.ZERO, windowDimensions,
+                    puckSwarm.createRenderable(puckImage));
+            puckSwarmObject.setTag(EntityKind.PUCK.getTag());
+            puckSwarm.setPool(physicsPool);
+        }
+        puckSwarm.clear();
+        //the static layer doesn't collide with itself or with the default layer
+        addObject(puckSwarmObject, Layer.STATIC_OBJECTS);
+    }
+
+    /**
+     * Moves the pucks of the swarm, bounces them off the walls, paddles and bricks, and executes the
+     * strategies of the hit bricks in the order they were hit.
+     *
+     * @param deltaTime The time to move the pucks for.
+     */
+    private void stepPuckSwarm(float deltaTime){
+        swarmPaddles[0] = entities.count(EntityKind.PADDLE) > 0 ?
+                entities.get(EntityKind.PADDLE, 0) : null;
+        swarmPaddles[1] = entities.count(EntityKind.EXTRA_PADDLE) > 0 ?
+                entities.get(EntityKind.EXTRA_PADDLE, 0) : null;
+        int hits = puckSwarm.step(deltaTime, swarmPaddles, brickGrid);
+        //the strategies run on this thread, in the order of the pucks
+        for (int i = 0; i < hits; i++) {
+            hitBrick(puckSwarm.getHit(i), puckSwarmObject);
+        }
+        puckSwarm.removeOutOfBounds();
+    }
+
+    //snapshots
+    /**
+     * Takes a snapshot of the state of the game, to be restored later with {@link #restore(GameSnapshot)}.
+     * Should be taken between frames, after the game was initialized. Moving objects are saved at their
+     * simulated positions, even while they are shown interpolated.
+     *
+     * @return The snapshot of the game.
+     */
+    public GameSnapshot snapshot(){
+        int pucks = entities.count(EntityKind.PUCK);
+        int hearts = entities.count(EntityKind.HEART);
+        int swarm = puckSwarm != null ? puckSwarm.size() : 0;
+        int cellWords = (rows * cols + Long.SIZE - 1) / Long.SIZE;
+        //a rolled wall keeps the effects of every brick still alive, a seeded wall only its seed
+        SeededCollisionStrategy seededStrategy = findSeededStrategy();
+        int effectBytes = seededStrategy != null ? 0 : brickRegistry.getLiveCount();
+        ByteBuffer out = ByteBuffer.allocate(SNAPSHOT_HEADER_BYTES + cellWords * Long.BYTES + effectBytes +
+                (pucks + hearts + swarm) * BODY_BYTES);
+        out.putInt(rows).putInt(cols);
+        out.putLong(rand.getState());
+        out.put((byte) healthUI.getCurHealth());
+        out.put((byte) (turbo ? 1 : 0));
+        out.putInt(turboHits);
+        Vector2 paddleCorner = entities.get(EntityKind.PADDLE, 0).getSimulatedTopLeftCorner();
+        out.putFloat(paddleCorner.x()).putFloat(paddleCorner.y());
+        out.put((byte) (extraPaddle != null ? 1 : 0));
+        Vector2 extraCorner = extraPaddle != null ? extraPaddle.getSimulatedTopLeftCorner() : Vector2.ZERO;
+        out.putFloat(extraCorner.x()).putFloat(extraCorner.y());
+        out.putInt(extraPaddle != null ? extraPaddle.getHits() : 0);
+        //bricks
+        out.put((byte) (seededStrategy != null ? 1 : 0));
+        out.putLong(seededStrategy != null ? seededStrategy.getSeed() : 0);
+        for (int word = 0; word < cellWords; word++) {
+            long alive = 0;
+            for (int bit = 0; bit < Long.SIZE && word * Long.SIZE + bit < rows * cols; bit++) {
+                int cell = word * Long.SIZE + bit;
+                if (brickGrid.get(cell / cols, cell % cols) != null) {
+                    alive |= 1L << bit;
+                }
+            }
+            out.putLong(alive);
+        }
+        if (seededStrategy == null) {
+            for (int cell = 0; cell < rows * cols; cell++) {
+                Brick brick = brickGrid.get(cell / cols, cell % cols);
+                if (brick != null) {
+                    int effects = collisionFactory.effectsOf(brick.getCollisionStrategy());
+                    if (effects < 0) {
+                        throw new IllegalStateException("The strategy of a brick can't be saved: " +
+                                brick.getCollisionStrategy());
+                    }
+                    out.put((byte) effects);
+                }
+            }
+        }
+        //moving objects
+        putBody(out, ball);
+        out.putInt(pucks);
+        for (int i = 0; i < pucks; i++) {
+            putBody(out, entities.get(EntityKind.PUCK, i));
+        }
+        out.putInt(hearts);
+        for (int i = 0; i < hearts; i++) {
+            putBody(out, entities.get(EntityKind.HEART, i));
+        }
+        out.putInt(swarm);
+        for (int i = 0; i < swarm; i++) {
+            out.putFloat(puckSwarm.getCenterX(i)).putFloat(puckSwarm.getCenterY(i));
+            out.putFloat(puckSwarm.getVelocityX(i)).putFloat(puckSwarm.getVelocityY(i));
+        }
+        return new GameSnapshot(out.array());
+    }
+
+    /**
+     * Puts the game back in the state of a snapshot. The balls, pucks, falling hearts, extra paddle and
+     * bricks of the game are replaced right away, so the game continues from the snapshot in the next
+     * frame, even if it had ended. The fixed timestep, if used, starts over. Should be called between
+     * frames, after the game was initialized.
+     *
+     * @param snapshot The snapshot to restore, taken from a game with a brick wall of the same size.
+     * @throws IllegalArgumentException If the snapshot was taken from a brick wall of a different size.
+     */
+    public void restore(GameSnapshot snapshot){
+        ByteBuffer in = snapshot.read();
+        if (in.getInt() != rows || in.getInt() != cols) {
+            throw new IllegalArgumentException("The snapshot is of a brick wall of a different size");
+        }
+        long randState = in.getLong();
+        int lives = in.get();
+        boolean snapshotTurbo = in.get() != 0;
+        int snapshotTurboHits = in.getInt();
+        //the replaced objects leave the game and return to their pools at once
+        for (EntityKind kind : RESTORED_KINDS) {
+            int layer = kind == EntityKind.BRICK ? Layer.STATIC_OBJECTS : Layer.DEFAULT;
+            for (int i = 0; i < entities.count(kind); i++) {
+                commands.remove(entities.get(kind, i), layer);
+            }
+        }
+        if (puckSwarm != null) {
+            puckSwarm.clear();
+        }
+        applyCommands();
+        events.clear();
+        entities.get(EntityKind.PADDLE, 0).setTopLeftCorner(new Vector2(in.getFloat(), in.getFloat()));
+        boolean hasExtra = in.get() != 0;
+        Vector2 extraCorner = new Vector2(in.getFloat(), in.getFloat());
+        int extraHits = in.getInt();
+        this.extraPaddle = null;
+        if (hasExtra) {
+            ExtraPaddle extraPaddle = createExtraPaddle();
+            extraPaddle.setTopLeftCorner(extraCorner);
+            extraPaddle.savePreviousPosition();
+            extraPaddle.setHits(extraHits);
+            addObject(extraPaddle);
+        }
+        //bricks
+        boolean seeded = in.get() != 0;
+        long seed = in.getLong();
+        CollisionStrategy seededStrategy = seeded ? collisionFactory.createSeededStrategy(seed) : null;
+        int cellWords = (rows * cols + Long.SIZE - 1) / Long.SIZE;
+        long[] alive = new long[cellWords];
+        for (int word = 0; word < cellWords; word++) {
+            alive[word] = in.getLong();
+        }
+        startBrickWall();
+        for (int cell = 0; cell < rows * cols; cell++) {
+            if ((alive[cell / Long.SIZE] & (1L << (cell % Long.SIZE))) != 0) {
+                createBrick(cell / cols, cell % cols, seeded ? seededStrategy :
+                        collisionFactory.strategyFor(in.get() & 0xFF));
+            }
+        }
+        //moving objects
+        Ball ball = ballPool.acquire();
+        ball.renderer().setRenderable(snapshotTurbo ? turboImage : ballImage);
+        getBody(in, ball);
+        this.ball = ball;
+        addObject(ball);
+        int pucks = in.getInt();
+        for (int i = 0; i < pucks; i++) {
+            Ball puck = puckPool.acquire();
+            getBody(in, puck);
+            addObject(puck);
+        }
+        int hearts = in.getInt();
+        for (int i = 0; i < hearts; i++) {
+            Heart heart = heartPool.acquire();
+            getBody(in, heart);
+            addObject(heart);
+        }
+        int swarm = in.getInt();
+        for (int i = 0; i < swarm; i++) {
+            float centerX = in.getFloat();
+            float centerY = in.getFloat();
+            float velX = in.getFloat();
+            float velY = in.getFloat();
+            //swarm pucks restored into a game without a swarm become separate pucks
+            if (swarmPucks && puckSwarm != null) {
+                puckSwarm.spawn(centerX, centerY, velX, velY);
+            }
+            else {
+                Ball puck = puckPool.acquire();
+                puck.setCenter(new Vector2(centerX, centerY));
+                puck.setVelocity(new Vector2(velX, velY));
+                puck.savePreviousPosition();
+                addObject(puck);
+            }
+        }
+        healthUI.setHealth(lives);
+        this.turbo = snapshotTurbo;
+        this.turboHits = snapshotTurboHits;
+        rand.setState(randState);
+        gameEnded = false;
+        if (fixedTimestep != null) {
+            fixedTimestep.reset();
+        }
+        applyCommands();
+        entities.get(EntityKind.PADDLE, 0).savePreviousPosition();
+    }
+
+    /**
+     * @return The strategy shared by the bricks of a seeded wall, or null if the strategies of the
+     * bricks were rolled when the wall was built.
+     */
+    private SeededCollisionStrategy findSeededStrategy(){
+        for (int i = 0; i < entities.count(EntityKind.BRICK); i++) {
+            CollisionStrategy strategy = ((Brick) entities.get(EntityKind.BRICK, i)).getCollisionStrategy();
+            if (strategy instanceof SeededCollisionStrategy) {
+                return (SeededCollisionStrategy) strategy;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Writes the simulated position and the velocity of a moving object to a snapshot.
+     *
+     * @param out    The snapshot being written.
+     * @param entity The moving object.
+     */
+    private static void putBody(ByteBuffer out, Entity entity){
+        Vector2 corner = entity.getSimulatedTopLeftCorner();
+        out.putFloat(corner.x()).putFloat(corner.y());
+        out.putFloat(entity.getVelocity().x()).putFloat(entity.getVelocity().y());
+    }
+
+    /**
+     * Reads the position and the velocity of a moving object from a snapshot.
+     *
+     * @param in     The snapshot being read.
+     * @param entity The moving object to set.
+     */
+    private static void getBody(ByteBuffer in, Entity entity){
+        entity.setTopLeftCorner(new Vector2(in.getFloat(), in.getFloat()));
+        entity.setVelocity(new Vector2(in.getFloat(), in.getFloat()));
+        entity.savePreviousPosition();
     }
 
     //extra paddle
@@ -400,9 +1263,12 @@ public class BrickerGameManager extends GameManager {
      * Sets the game into turbo mode by increasing the ball's speed and changing its appearance.
      */
     public void setTurbo(){
+        if (!turbo) {
+            TurboEvent.emit(true);
+        }
         this.ball.renderer().setRenderable(turboImage);
         this.ball.setVelocity(ball.getVelocity().mult(TURBO_FACTOR));
-        isTurbo = true;
+        turbo = true;
     }
 
     /**
@@ -411,8 +1277,9 @@ public class BrickerGameManager extends GameManager {
     private void removeTurbo(){
         this.ball.renderer().setRenderable(ballImage);
         this.ball.setVelocity(ball.getVelocity().mult(1/TURBO_FACTOR));
-        ball.setCollusionCounter(0);
-        isTurbo = false;
+        turboHits = 0;
+        turbo = false;
+        TurboEvent.emit(false);
     }
 
     /**
@@ -423,7 +1290,9 @@ public class BrickerGameManager extends GameManager {
         float ballHeight = ball.getCenter().y();
         if(ballHeight > windowDimensions.y()) {
             healthUI.removeHeart();
+            LifeLostEvent.emit(healthUI.getCurHealth());
             if (isLose()){
+                gameEnded = true;
                 if(windowController.openYesNoDialog("You Lost! Play Again?")){
                     windowController.resetGame();
                 }
@@ -433,22 +1302,193 @@ public class BrickerGameManager extends GameManager {
             }
             createBall();
             //checking if ball was turbo
-            if(isTurbo){
+            if(turbo){
                 setTurbo();
             }
         }
     }
 
     /**
-     * @return The image reader used in the game.
+     * @return The live entities of the game, indexed by kind.
+     */
+    public EntityIndex getEntities(){return entities;}
+
+    /**
+     * @return The registry of the bricks that are still alive.
+     */
+    public BrickRegistry getBrickRegistry(){return brickRegistry;}
+
+    /**
+     * @return The registry of the images and sounds used in the game.
+     */
+    public AssetRegistry getAssetRegistry(){return assetRegistry;}
+
+    /**
+     * Switches continuous collision of balls and pucks with the walls and bricks on or off.
+     * In continuous mode, a ball is swept along its whole displacement in a frame and bounces off
+     * everything on the way, so fast balls and long frames don't let it pass through thin objects.
+     *
+     * @param continuousCollision true to sweep the balls, false to check them only where they end up.
+     */
+    public void setContinuousCollision(boolean continuousCollision){
+        this.continuousCollision = continuousCollision;
+    }
+
+    /**
+     * Simulates the game in ticks of a fixed length instead of in the time of each frame, so the
+     * simulation doesn't depend on the frame rate. The moving objects are shown between ticks.
+     *
+     * @param ticksPerSecond   The number of ticks in a second of game time.
+     * @param maxTicksPerFrame The most ticks simulated in a frame. The rest of a longer frame is dropped,
+     *                         which slows the game down instead of making the frames longer.
+     */
+    public void setFixedTimestep(float ticksPerSecond, int maxTicksPerFrame){
+        this.fixedTimestep = new FixedTimestep(ticksPerSecond, maxTicksPerFrame);
+    }
+
+    /**
+     * Simulates the game in the time of each frame, as the engine reports it. This is the default.
+     */
+    public void setVariableTimestep(){
+        restoreSimulatedPositions();
+        this.fixedTimestep = null;
+    }
+
+    /**
+     * @return The profiler timing the frames of the game. It is off until switched on.
+     */
+    public FrameProfiler getProfiler(){return profiler;}
+
+    /**
+     * Shows or hides the timings of the profiler on the screen. The profiler itself is switched on and
+     * off separately.
+     *
+     * @param show true to show the timings, false to hide them.
+     */
+    public void setProfilerOverlay(boolean show){
+        if (show == showProfilerOverlay) {
+            return;
+        }
+        if (profilerOverlay == null) {
+            profilerOverlay = new ProfilerOverlay(profiler, new Vector2(WALL_SIZE * 2, WALL_SIZE * 2));
+        }
+        showProfilerOverlay = show;
+        if (show) {
+            profilerOverlay.addTo(this);
+        }
+        else {
+            profilerOverlay.removeFrom(this);
+        }
+    }
+
+    /**
+     * Switches between pucks that are separate game objects and pucks simulated together as a swarm.
+     * Swarm pucks are much cheaper, so many thousands of them can be in play, but they don't make
+     * sounds and don't wear down the extra paddle. Takes effect when the next game starts.
+     *
+     * @param swarmPucks true to simulate the pucks as a swarm, false for separate game objects.
+     */
+    public void setPuckSwarm(boolean swarmPucks){
+        this.swarmPucks = swarmPucks;
+    }
+
+    /**
+     * Switches the parallel physics of the puck swarm on or off. In parallel, the pucks are moved and
+     * collided in chunks on a fork-join pool, and the strategies of the hit bricks are still executed
+     * on the game thread, in the same order as in serial. The results are the same either way.
+     *
+     * @param pool The pool to move the pucks on, or null to move them on the game thread.
      */
-    public ImageReader getImageReader(){return imageReader;}
+    public void setPhysicsPool(ForkJoinPool pool){
+        this.physicsPool = pool;
+        if (puckSwarm != null) {
+            puckSwarm.setPool(pool);
+        }
+    }
+
+    /**
+     * @return The simulator of the puck swarm, or null if the swarm was never used.
+     */
+    public PuckSimulator getPuckSwarm(){return puckSwarm;}
+
+    /**
+     * @return The bus the objects of the game publish their events on.
+     */
+    public GameEventBus getEvents(){return events;}
+
+    /**
+     * @return true if the ball is in turbo mode, false otherwise.
+     */
+    public boolean isTurbo(){return turbo;}
+
+    /**
+     * @return The dispatcher that plays the collision sounds of the balls and pucks.
+     */
+    public SoundDispatcher getSoundDispatcher(){return soundDispatcher;}
+
+    /**
+     * Seeds the random source shared by all the random choices of the game.
+     * A game seeded with the same value and given the same input makes the same choices.
+     *
+     * @param seed The seed of the game.
+     */
+    public void setSeed(long seed){rand.setState(seed);}
+
+    /**
+     * @return The random source shared by all the random choices of the game.
+     */
+    public GameRandom getRandom(){return rand;}
+
+    /**
+     * Makes the strategies of the bricks depend only on a seed and the cell of each brick.
+     * The strategy of a brick is only rolled when it is hit, so the same seed always gives the same wall
+     * and building the wall doesn't roll any strategy. Takes effect from the next brick wall built.
+     *
+     * @param seed The seed of the wall.
+     */
+    public void setWallSeed(long seed){
+        this.seededWall = true;
+        this.wallSeed = seed;
+    }
+
+    /**
+     * Sets the number of free pucks and falling hearts kept for reuse.
+     * Must be called before the game is initialized.
+     *
+     * @param poolCapacity The capacity of the puck and heart pools.
+     */
+    public void setPoolCapacity(int poolCapacity){this.poolCapacity = poolCapacity;}
+
+    /**
+     * Takes a falling heart out of the heart pool.
+     *
+     * @return A heart that is not in the game.
+     */
+    Heart acquireFallingHeart(){return heartPool.acquire();}
+
+    /**
+     * @return The breakdown of the time it took the game to start.
+     */
+    public StartupTimings getStartupTimings(){return startupTimings;}
+
+    /**
+     * Replaces the readers given by the game window as the source of the game's images and sounds.
+     * Must be called before the game is initialized.
+     *
+     * @param assetSource The asset source to use, or null to use the readers of the game window.
+     */
+    public void setAssetSource(AssetSource assetSource){this.assetSourceOverride = assetSource;}
 
     /**
      * @return The dimensions of the game window.
      */
     public Vector2 getWindowDimensions(){return windowDimensions;}
 
+    /**
+     * @return The thickness of the left, right and top walls.
+     */
+    public float getWallSize(){return WALL_SIZE;}
+
     /**
      * Adds a heart object that will collide with other game objects.
      *
@@ -465,7 +1505,7 @@ public class BrickerGameManager extends GameManager {
      * @param args If there is, used for number of rows and cols for the brick wall.
      */
     public static void main(String[] args) {
-        GameManager window;
+        BrickerGameManager window;
         if (args.length == 2){
             window = new BrickerGameManager("Bricker", new Vector2(500, 650),
                     Integer.parseInt(args[0]), Integer.parseInt(args[1]));
@@ -473,6 +1513,11 @@ public class BrickerGameManager extends GameManager {
         else {
             window = new BrickerGameManager("Bricker", new Vector2(500, 650));
         }
+        //-Dbricker.profile=true times the game from the start and prints the timings on exit
+        if (Boolean.getBoolean("bricker.profile")) {
+            window.getProfiler().setEnabled(true);
+            window.getProfiler().dumpOnExit(System.out);
+        }
         window.run();
     }
 }
@@ -0,0 +1,114 @@
+package bricker.main;
+
+import danogl.GameObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Collects the structural changes to the game objects made during a frame (adding and removing
+ * objects), so they can be applied together at a defined point of the frame instead of while the
+ * engine is still dispatching collisions.
+ * Repeated additions or removals of the same object within a frame are dropped. Commands are kept in
+ * the order they were recorded, and the buffer reuses its storage between frames.
+ */
+public class CommandBuffer {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final ArrayList<GameObject> objects = new ArrayList<>(INITIAL_CAPACITY);
+    private int[] layers = new int[INITIAL_CAPACITY];
+    private boolean[] removals = new boolean[INITIAL_CAPACITY];
+    private final Set<GameObject> added = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<GameObject> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Records the addition of an object.
+     *
+     * @param object The object to add.
+     * @param layer  The layer to add the object to.
+     * @return true if the addition was recorded, false if the object is already being added this frame.
+     */
+    public boolean add(GameObject object, int layer) {
+        if (object == null || !added.add(object)) {
+            return false;
+        }
+        record(object, layer, false);
+        return true;
+    }
+
+    /**
+     * Records the removal of an object.
+     *
+     * @param object The object to remove.
+     * @param layer  The layer to remove the object from.
+     * @return true if the removal was recorded, false if the object is already being removed this frame.
+     */
+    public boolean remove(GameObject object, int layer) {
+        if (object == null || !removed.add(object)) {
+            return false;
+        }
+        record(object, layer, true);
+        return true;
+    }
+
+    /**
+     * @return The number of recorded commands.
+     */
+    public int size() {
+        return objects.size();
+    }
+
+    /**
+     * @param index The index of the command.
+     * @return The object the command adds or removes.
+     */
+    public GameObject objectAt(int index) {
+        return objects.get(index);
+    }
+
+    /**
+     * @param index The index of the command.
+     * @return The layer the command adds the object to or removes it from.
+     */
+    public int layerAt(int index) {
+        return layers[index];
+    }
+
+    /**
+     * @param index The index of the command.
+     * @return true if the command removes its object, false if it adds it.
+     */
+    public boolean isRemovalAt(int index) {
+        return removals[index];
+    }
+
+    /**
+     * Drops all the recorded commands, keeping the storage for the next frame.
+     */
+    public void clear() {
+        objects.clear();
+        added.clear();
+        removed.clear();
+    }
+
+    /**
+     * Appends a command to the buffer.
+     *
+     * @param object  The object of the command.
+     * @param layer   The layer of the command.
+     * @param removal Whether the command is a removal.
+     */
+    private void record(GameObject object, int layer, boolean removal) {
+        int index = objects.size();
+        if (index == layers.length) {
+            layers = Arrays.copyOf(layers, index * 2);
+            removals = Arrays.copyOf(removals, index * 2);
+        }
+        objects.add(object);
+        layers[index] = layer;
+        removals[index] = removal;
+    }
+}
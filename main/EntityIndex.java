@@ -0,0 +1,102 @@
+package bricker.main;
+
+import bricker.gameobjects.Entity;
+import bricker.gameobjects.EntityKind;
+import danogl.GameObject;
+
+import java.util.ArrayList;
+
+/**
+ * Keeps a live list of the entities in the game for every entity kind.
+ * Queries such as "all pucks" read a single list instead of scanning every game object. Adding and
+ * removing an entity take constant time; removing an entity moves the last entity of its kind into
+ * its slot.
+ */
+public class EntityIndex {
+    private final ArrayList<Entity>[] byKind;
+
+    /**
+     * Constructs a new, empty bricker.main.EntityIndex instance.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public EntityIndex() {
+        EntityKind[] kinds = EntityKind.values();
+        byKind = new ArrayList[kinds.length];
+        for (EntityKind kind : kinds) {
+            byKind[kind.ordinal()] = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Adds a game object to the list of its kind.
+     * Does nothing if the object is not an entity or is already indexed.
+     *
+     * @param gameObject The game object that was added to the game.
+     */
+    public void add(GameObject gameObject) {
+        if (!(gameObject instanceof Entity)) {
+            return;
+        }
+        Entity entity = (Entity) gameObject;
+        if (entity.getIndexSlot() >= 0) {
+            return;
+        }
+        ArrayList<Entity> entities = byKind[entity.getKind().ordinal()];
+        entity.setIndexSlot(entities.size());
+        entities.add(entity);
+    }
+
+    /**
+     * Removes a game object from the list of its kind.
+     *
+     * @param gameObject The game object that was removed from the game.
+     * @return true if the object was indexed, false otherwise.
+     */
+    public boolean remove(GameObject gameObject) {
+        if (!(gameObject instanceof Entity)) {
+            return false;
+        }
+        Entity entity = (Entity) gameObject;
+        int slot = entity.getIndexSlot();
+        if (slot < 0) {
+            return false;
+        }
+        ArrayList<Entity> entities = byKind[entity.getKind().ordinal()];
+        Entity last = entities.remove(entities.size() - 1);
+        if (last != entity) {
+            entities.set(slot, last);
+            last.setIndexSlot(slot);
+        }
+        entity.setIndexSlot(-1);
+        return true;
+    }
+
+    /**
+     * Removes every entity from the index.
+     */
+    public void clear() {
+        for (ArrayList<Entity> entities : byKind) {
+            for (Entity entity : entities) {
+                entity.setIndexSlot(-1);
+            }
+            entities.clear();
+        }
+    }
+
+    /**
+     * @param kind The kind to count.
+     * @return The number of live entities of the given kind.
+     */
+    public int count(EntityKind kind) {
+        return byKind[kind.ordinal()].size();
+    }
+
+    /**
+     * @param kind  The kind of the entity.
+     * @param index The index of the entity, smaller than {@link #count(EntityKind)}.
+     * @return The live entity of the given kind at the given index.
+     */
+    public Entity get(EntityKind kind, int index) {
+        return byKind[kind.ordinal()].get(index);
+    }
+}
@@ -0,0 +1,63 @@
+package bricker.main;
+
+/**
+ * Divides the time of the frames into simulation ticks of a fixed length.
+ * The time left over after the ticks of a frame is carried to the next frame, and its part of a tick is
+ * used to interpolate what is shown between the last two ticks. When a frame is too long, the ticks are
+ * capped and the rest of its time is dropped, so a slow frame doesn't make the next ones slower.
+ */
+public class FixedTimestep {
+    private final float tickLength;
+    private final int maxTicksPerFrame;
+    private float accumulator;
+
+    /**
+     * Constructs a new bricker.main.FixedTimestep instance.
+     *
+     * @param ticksPerSecond   The number of simulation ticks in a second of game time.
+     * @param maxTicksPerFrame The most ticks simulated in a single frame.
+     */
+    public FixedTimestep(float ticksPerSecond, int maxTicksPerFrame) {
+        if (ticksPerSecond <= 0 || maxTicksPerFrame <= 0) {
+            throw new IllegalArgumentException("Tick rate and ticks per frame must be positive");
+        }
+        this.tickLength = 1 / ticksPerSecond;
+        this.maxTicksPerFrame = maxTicksPerFrame;
+    }
+
+    /**
+     * Adds the time of a frame and takes the ticks that are due.
+     *
+     * @param deltaTime The time elapsed since the last frame, in seconds.
+     * @return The number of ticks to simulate in the frame.
+     */
+    public int advance(float deltaTime) {
+        accumulator += deltaTime;
+        int ticks = (int) (accumulator / tickLength);
+        //the ticks past the cap are dropped, but the part of a tick is kept for the interpolation
+        accumulator -= ticks * tickLength;
+        return Math.min(ticks, maxTicksPerFrame);
+    }
+
+    /**
+     * @return The part of a tick carried to the next frame, between 0 and 1, for interpolating between
+     * the last two ticks.
+     */
+    public float getAlpha() {
+        return Math.min(accumulator / tickLength, 1);
+    }
+
+    /**
+     * @return The length of a tick, in seconds.
+     */
+    public float getTickLength() {
+        return tickLength;
+    }
+
+    /**
+     * Drops the time carried from the previous frames.
+     */
+    public void reset() {
+        accumulator = 0;
+    }
+}
@@ -0,0 +1,69 @@
+package bricker.main;
+
+/**
+ * The phases of a frame of the game, as timed by the frame profiler.
+ */
+public enum FramePhase {
+    /**
+     * The whole frame.
+     */
+    FRAME("frame"),
+    /**
+     * The engine's update of the game objects and their collisions.
+     */
+    ENGINE("engine"),
+    /**
+     * The collisions of the balls and pucks with the walls and bricks.
+     */
+    BRICK_COLLISIONS("bricks"),
+    /**
+     * The simulation of the puck swarm.
+     */
+    PUCK_SWARM("swarm"),
+    /**
+     * The handling of the events published during the tick.
+     */
+    EVENTS("events"),
+    /**
+     * The update of the health display.
+     */
+    HEALTH("health"),
+    /**
+     * The check for a lost ball.
+     */
+    BALL_OUT_OF_BOUNDS("ball lost"),
+    /**
+     * The check for a won game.
+     */
+    WIN_CHECK("win"),
+    /**
+     * The removal of the objects that left the window.
+     */
+    OUT_OF_BOUNDS_REMOVAL("cull"),
+    /**
+     * The checks of the extra paddle and the turbo mode.
+     */
+    STRATEGY_CHECKS("extra/turbo"),
+    /**
+     * The additions and removals of objects made during the frame.
+     */
+    COMMANDS("commands");
+
+    private final String label;
+
+    /**
+     * Constructs a new bricker.main.FramePhase instance.
+     *
+     * @param label The short name of the phase in reports.
+     */
+    FramePhase(String label) {
+        this.label = label;
+    }
+
+    /**
+     * @return The short name of the phase in reports.
+     */
+    public String getLabel() {
+        return label;
+    }
+}
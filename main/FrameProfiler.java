@@ -0,0 +1,167 @@
+package bricker.main;
+
+import bricker.brick_strategies.CollisionStrategy;
+
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Times the phases of the game's frames and the collision strategies of the bricks.
+ * Timing is switched on and off at runtime. While it is off, the timing calls only check a flag and
+ * return, so the profiler can be left in the game loop.
+ * <p>
+ * A phase is timed by chaining laps: {@link #start()} gives the start of the first phase, and each
+ * {@link #lap(FramePhase, long)} records a phase and gives the start of the next one.
+ */
+public class FrameProfiler {
+    private static final double NANOS_PER_MICRO = 1e3;
+
+    private final LatencyHistogram[] phases = new LatencyHistogram[FramePhase.values().length];
+    private final Map<Class<?>, LatencyHistogram> strategies = new LinkedHashMap<>();
+    private boolean enabled;
+    private boolean dumpOnExit;
+
+    /**
+     * Constructs a new bricker.main.FrameProfiler instance, switched off.
+     */
+    public FrameProfiler() {
+        for (int i = 0; i < phases.length; i++) {
+            phases[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Switches the timing on or off. The timings recorded so far are kept.
+     *
+     * @param enabled true to time the frames, false otherwise.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return true if the frames are being timed, false otherwise.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return The current time to start timing from, or 0 if timing is off.
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the time since the start of a phase.
+     *
+     * @param phase The phase that ended.
+     * @param start The start of the phase, as given by {@link #start()} or the previous lap. A start of 0,
+     *              given while timing was off, records nothing.
+     * @return The current time, as the start of the next phase, or 0 if timing is off.
+     */
+    public long lap(FramePhase phase, long start) {
+        if (!enabled) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        if (start != 0) {
+            phases[phase.ordinal()].record(now - start);
+        }
+        return now;
+    }
+
+    /**
+     * Records the time a collision strategy took to handle a hit.
+     *
+     * @param strategy The strategy that handled the hit.
+     * @param start    The time the hit started, as given by {@link #start()}.
+     */
+    public void recordStrategy(CollisionStrategy strategy, long start) {
+        if (!enabled) {
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+        strategies.computeIfAbsent(strategy.getClass(), type -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * @param phase A phase of the frame.
+     * @return The timings of the phase.
+     */
+    public LatencyHistogram getPhase(FramePhase phase) {
+        return phases[phase.ordinal()];
+    }
+
+    /**
+     * @return The timings of the collision strategies, by the type of strategy.
+     */
+    public Map<Class<?>, LatencyHistogram> getStrategies() {
+        return strategies;
+    }
+
+    /**
+     * Forgets all the recorded timings.
+     */
+    public void reset() {
+        for (LatencyHistogram phase : phases) {
+            phase.reset();
+        }
+        strategies.clear();
+    }
+
+    /**
+     * Formats the timings of a phase as a single line.
+     *
+     * @param phase The phase to format.
+     * @return The percentiles and maximum of the phase, in microseconds.
+     */
+    public String formatPhase(FramePhase phase) {
+        return format(phase.getLabel(), phases[phase.ordinal()]);
+    }
+
+    /**
+     * @return A report of the timings of all the phases and collision strategies, a line for each.
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder("Frame profile (microseconds)");
+        for (FramePhase phase : FramePhase.values()) {
+            report.append(System.lineSeparator()).append(formatPhase(phase));
+        }
+        for (Map.Entry<Class<?>, LatencyHistogram> strategy : strategies.entrySet()) {
+            report.append(System.lineSeparator())
+                    .append(format(strategy.getKey().getSimpleName(), strategy.getValue()));
+        }
+        return report.toString();
+    }
+
+    /**
+     * Prints the report of the timings when the JVM exits. Only the first call has an effect.
+     *
+     * @param out The stream to print the report to.
+     */
+    public void dumpOnExit(PrintStream out) {
+        if (dumpOnExit) {
+            return;
+        }
+        dumpOnExit = true;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> out.println(report()),
+                "frame-profiler-dump"));
+    }
+
+    /**
+     * Formats a histogram as a single line.
+     *
+     * @param label     The name of the timed code.
+     * @param histogram The timings.
+     * @return The percentiles and maximum of the timings, in microseconds.
+     */
+    private static String format(String label, LatencyHistogram histogram) {
+        return String.format("%-12s p50 %8.1f  p99 %8.1f  max %8.1f  (n=%d)", label,
+                histogram.getPercentile(50) / NANOS_PER_MICRO,
+                histogram.getPercentile(99) / NANOS_PER_MICRO,
+                histogram.getMax() / NANOS_PER_MICRO, histogram.getCount());
+    }
+}
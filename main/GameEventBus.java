@@ -0,0 +1,116 @@
+package bricker.main;
+
+import java.util.Arrays;
+
+/**
+ * Carries the events of a single game from the objects that publish them to the game, which handles them
+ * in batches once a tick.
+ * <p>
+ * The events are kept in a preallocated ring buffer, as parallel arrays of types and subjects, so
+ * publishing an event doesn't allocate. No event is dropped: a full buffer doubles its capacity, which is
+ * the only time the bus allocates. The bus belongs to the game thread and isn't synchronized.
+ */
+public class GameEventBus {
+    /**
+     * Handles the events drained from the bus.
+     */
+    @FunctionalInterface
+    public interface Handler {
+        /**
+         * Handles a single event.
+         *
+         * @param type    The type of the event.
+         * @param subject The subject of the event, as described by its type.
+         */
+        void onEvent(GameEventType type, Object subject);
+    }
+
+    private GameEventType[] types;
+    private Object[] subjects;
+    private int mask;
+    private long head;
+    private long tail;
+
+    /**
+     * Constructs a new bricker.main.GameEventBus instance.
+     *
+     * @param capacity The number of events the bus holds before it grows, rounded up to a power of two.
+     */
+    public GameEventBus(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        types = new GameEventType[size];
+        subjects = new Object[size];
+        mask = size - 1;
+    }
+
+    /**
+     * Publishes an event, to be handled in the next drain.
+     *
+     * @param type    The type of the event.
+     * @param subject The subject of the event, as described by its type.
+     */
+    public void publish(GameEventType type, Object subject) {
+        if (tail - head == types.length) {
+            grow();
+        }
+        int slot = (int) tail & mask;
+        types[slot] = type;
+        subjects[slot] = subject;
+        tail++;
+    }
+
+    /**
+     * Handles all the published events in the order they were published, including events published by
+     * the handler itself.
+     *
+     * @param handler The handler of the events.
+     * @return The number of handled events.
+     */
+    public int drain(Handler handler) {
+        int handled = 0;
+        while (head < tail) {
+            int slot = (int) head & mask;
+            GameEventType type = types[slot];
+            Object subject = subjects[slot];
+            subjects[slot] = null;
+            head++;
+            handler.onEvent(type, subject);
+            handled++;
+        }
+        return handled;
+    }
+
+    /**
+     * Drops all the published events without handling them.
+     */
+    public void clear() {
+        Arrays.fill(subjects, null);
+        head = tail;
+    }
+
+    /**
+     * @return The number of events waiting to be handled.
+     */
+    public int size() {
+        return (int) (tail - head);
+    }
+
+    /**
+     * Doubles the capacity of the buffer, keeping the waiting events in order.
+     */
+    private void grow() {
+        int size = types.length;
+        GameEventType[] newTypes = new GameEventType[size * 2];
+        Object[] newSubjects = new Object[size * 2];
+        for (int i = 0; i < size; i++) {
+            int slot = (int) (head + i) & mask;
+            newTypes[i] = types[slot];
+            newSubjects[i] = subjects[slot];
+        }
+        types = newTypes;
+        subjects = newSubjects;
+        mask = size * 2 - 1;
+        tail -= head;
+        head = 0;
+    }
+}
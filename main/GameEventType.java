@@ -0,0 +1,20 @@
+package bricker.main;
+
+/**
+ * The types of the events published on the game event bus, each with the type of its subject.
+ */
+public enum GameEventType {
+    /**
+     * A falling heart was caught by the paddle. The subject is the caught
+     * {@link bricker.gameobjects.Heart}.
+     */
+    HEART_CAUGHT,
+    /**
+     * The main ball bounced off something. The subject is the {@link bricker.gameobjects.Ball}.
+     */
+    BALL_BOUNCED,
+    /**
+     * A brick strategy asked for turbo mode. The subject is the brick that was hit.
+     */
+    TURBO_REQUESTED
+}
@@ -0,0 +1,50 @@
+package bricker.main;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The single source of randomness of a game.
+ * A SplitMix64 generator whose whole state is one long value, so a game started from the same seed
+ * makes the same random choices, and the state can be saved and restored.
+ */
+public class GameRandom implements RandomGenerator {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long MIX_1 = 0xBF58476D1CE4E5B9L;
+    private static final long MIX_2 = 0x94D049BB133111EBL;
+
+    private long state;
+
+    /**
+     * Constructs a new bricker.main.GameRandom instance.
+     *
+     * @param seed The seed of the generator.
+     */
+    public GameRandom(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * @return The current state of the generator.
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * Sets the state of the generator, for example to a seed or to a previously saved state.
+     *
+     * @param state The new state of the generator.
+     */
+    public void setState(long state) {
+        this.state = state;
+    }
+
+    @Override
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        long value = state;
+        value = (value ^ (value >>> 30)) * MIX_1;
+        value = (value ^ (value >>> 27)) * MIX_2;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,83 @@
+package bricker.main;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * The full state of a game at the end of a frame, taken with {@link BrickerGameManager#snapshot()} and
+ * put back with {@link BrickerGameManager#restore(GameSnapshot)}.
+ * <p>
+ * The state is kept as a single array in a compact binary layout: the random state, the lives and turbo
+ * state, the paddles, the bricks still alive with the effects of their strategies, and the position and
+ * velocity of every ball, puck and falling heart. Images and sounds are not part of it, so a snapshot can
+ * only be restored into a game of the same brick wall size. A snapshot is immutable.
+ */
+public class GameSnapshot {
+    private static final int MAGIC = 0x42534E50;
+    private static final int VERSION = 1;
+
+    private final byte[] data;
+
+    /**
+     * Constructs a new bricker.main.GameSnapshot instance.
+     *
+     * @param data The state of the game, in the layout written by the game manager. It is not copied.
+     */
+    GameSnapshot(byte[] data) {
+        this.data = data;
+    }
+
+    /**
+     * @return A buffer reading the state of the game from its start.
+     */
+    ByteBuffer read() {
+        return ByteBuffer.wrap(data).asReadOnlyBuffer();
+    }
+
+    /**
+     * @return The size of the state of the game, in bytes.
+     */
+    public int size() {
+        return data.length;
+    }
+
+    /**
+     * Writes the snapshot in its binary format.
+     *
+     * @param outputStream The stream to write to. It is not closed.
+     * @throws IOException If writing fails.
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(data.length);
+        out.write(data);
+        out.flush();
+    }
+
+    /**
+     * Reads a snapshot written by {@link #writeTo(OutputStream)}.
+     *
+     * @param inputStream The stream to read from. It is not closed.
+     * @return The read snapshot.
+     * @throws IOException If reading fails or the data is not a snapshot.
+     */
+    public static GameSnapshot readFrom(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(inputStream);
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Not a Bricker game snapshot");
+        }
+        int size = in.readInt();
+        if (size < 0) {
+            throw new IOException("Corrupt Bricker game snapshot");
+        }
+        byte[] data = new byte[size];
+        in.readFully(data);
+        return new GameSnapshot(data);
+    }
+}
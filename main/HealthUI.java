@@ -1,9 +1,9 @@
 package bricker.main;
 
+import bricker.gameobjects.EntityKind;
 import bricker.gameobjects.Heart;
 import danogl.GameObject;
 import danogl.collisions.Layer;
-import danogl.gui.ImageReader;
 import danogl.gui.rendering.Renderable;
 import danogl.gui.rendering.TextRenderable;
 import danogl.util.Vector2;
@@ -14,17 +14,21 @@ import java.awt.*;
  * Manages the health UI in the Bricker game.
  * The class handles the display of the player's health, which is represented by hearts.
  * It also manages the creation, removal, and updating of health-related elements on the UI.
+ * The display only changes when a life is gained, lost or caught, so a frame where none of these
+ * happened costs nothing but a couple of flag checks. The counter switches between cached renderables,
+ * one for each number of lives, instead of re-laying out its text.
  */
  public class HealthUI {
     private static final int STARTING_HEARTS = 3;
     private static final int MAX_HEARTS = 4;
     private static final int HEARTS_DIM = 20;
     private final BrickerGameManager brickerGameManager;
-    private final ImageReader imageReader;
+    private final Renderable heartImage;
     private final Heart[] health;
-    private TextRenderable healthRender;
+    private final TextRenderable[] counterRenders = new TextRenderable[MAX_HEARTS + 1];
+    private GameObject livesCount;
+    private boolean counterDirty;
     private int cur_health;
-    public static boolean needToAddHeart = false;
 
     /**
      * Constructs a new bricker.main.HealthUI instance.
@@ -33,28 +37,60 @@ import java.awt.*;
      */
     HealthUI(BrickerGameManager brickerGameManager){
         this.brickerGameManager = brickerGameManager;
-        imageReader = brickerGameManager.getImageReader();
+        heartImage = brickerGameManager.getAssetRegistry().readImage("assets/heart.png", false);
         this.health = new Heart[MAX_HEARTS];
+        for (int lives = 0; lives <= MAX_HEARTS; lives++) {
+            counterRenders[lives] = createCounterRender(lives);
+        }
+    }
+
+    /**
+     * Creates a new falling heart object with the given image and the appropriate size.
+     *
+     * @param heartImage The renderable of the heart.
+     * @param events     The event bus the heart publishes its catch on.
+     * @return A new bricker.gameobjects.Heart instance.
+     */
+    static Heart createHeart(Renderable heartImage, GameEventBus events){
+        Heart heart = new Heart(Vector2.ZERO, new Vector2(HEARTS_DIM, HEARTS_DIM), heartImage);
+        heart.setEventBus(events);
+        return heart;
     }
 
     /**
-     * Creates a new heart object with an image and the appropriate size.
+     * Creates a new heart object for the health UI.
      *
      * @return A new bricker.gameobjects.Heart instance.
      */
-    private Heart createHeart(){
-        Renderable heartImage = imageReader.readImage("assets/heart.png", false);
-        return new Heart(Vector2.ZERO, new Vector2(HEARTS_DIM, HEARTS_DIM), heartImage);
+    private Heart createHudHeart(){
+        return new Heart(Vector2.ZERO, new Vector2(HEARTS_DIM, HEARTS_DIM), heartImage, EntityKind.HUD_HEART);
+    }
+
+    /**
+     * Creates the renderable of the health counter for a number of lives, colored by how many are left.
+     *
+     * @param lives The number of lives.
+     * @return The renderable of the counter.
+     */
+    private static TextRenderable createCounterRender(int lives){
+        TextRenderable render = new TextRenderable(Integer.toString(lives));
+        if(lives >= 3){
+            render.setColor(Color.GREEN);
+        } else if (lives == 2) {
+            render.setColor(Color.YELLOW);
+        }else {
+            render.setColor(Color.RED);
+        }
+        return render;
     }
 
     /**
      * Creates the health counter displayed on the UI.
      */
     private void createCounter(){
-        this.healthRender = new TextRenderable(Integer.toString(STARTING_HEARTS));
-        GameObject livesCount = new GameObject(new Vector2(0,
+        livesCount = new GameObject(new Vector2(0,
                 brickerGameManager.getWindowDimensions().y()-HEARTS_DIM),
-                new Vector2(HEARTS_DIM, HEARTS_DIM), healthRender);
+                new Vector2(HEARTS_DIM, HEARTS_DIM), counterRenders[cur_health]);
         brickerGameManager.addObject(livesCount, Layer.UI);
     }
 
@@ -66,10 +102,11 @@ import java.awt.*;
         if (cur_health==MAX_HEARTS){
             return;
         }
-        health[cur_health] = createHeart();
+        health[cur_health] = createHudHeart();
         health[cur_health].setTopLeftCorner(new Vector2(HEARTS_DIM*(cur_health+1),
                 brickerGameManager.getWindowDimensions().y()-HEARTS_DIM));
         brickerGameManager.addObject(health[cur_health++], Layer.UI);
+        counterDirty = true;
     }
 
     /**
@@ -89,39 +126,44 @@ import java.awt.*;
     public void removeHeart(){
         if(cur_health > 0){
             brickerGameManager.removeObject(health[--cur_health], Layer.UI);
+            counterDirty = true;
         }
     }
 
     /**
-     * Updates the health UI based on the current health state.
-     * Adds a heart if necessary, updates the health text, and removes hearts that have collided.
+     * Adds or removes hearts until the UI shows the given number of lives, up to the maximum.
+     *
+     * @param lives The number of lives to show.
      */
-    public void updateHealth(){
-        if (needToAddHeart && cur_health < MAX_HEARTS){
+    public void setHealth(int lives){
+        while (cur_health < Math.min(lives, MAX_HEARTS)){
             addHeart();
-            needToAddHeart = false;
         }
-        //the needToAddHeart turns true if health is full so when
-        // you lose a life it doesn't change so this is my dumb solution
-        if (cur_health == MAX_HEARTS){
-            needToAddHeart = false;
+        while (cur_health > Math.max(lives, 0)){
+            removeHeart();
         }
-        updateText();
-        brickerGameManager.removeObject(Heart.getCollisionHeartDelete());
-        Heart.setCollisionHeart();
     }
 
     /**
-     * Updates the health counter text, changing its color based on the current health.
+     * Updates the health UI with the changes since the last frame.
+     * Switches the counter if the number of lives changed.
      */
-    private void updateText(){
-        healthRender.setString(Integer.toString(cur_health));
-        if(cur_health >= 3){
-            healthRender.setColor(Color.GREEN);
-        } else if (cur_health == 2) {
-            healthRender.setColor(Color.YELLOW);
-        }else if (cur_health == 1) {
-            healthRender.setColor(Color.RED);
+    public void updateHealth(){
+        if (counterDirty){
+            counterDirty = false;
+            livesCount.renderer().setRenderable(counterRenders[cur_health]);
+        }
+    }
+
+    /**
+     * Removes a falling heart caught by the paddle and adds a life for it, unless the health is full.
+     * A heart caught again before it is removed adds nothing.
+     *
+     * @param caught The caught heart.
+     */
+    void onHeartCaught(Heart caught){
+        if (brickerGameManager.removeObject(caught)){
+            addHeart();
         }
     }
 
@@ -132,7 +174,7 @@ import java.awt.*;
      * @param fallSpeed The speed at which the heart will fall.
      */
     public void addCollisionHeart(Vector2 center, int fallSpeed){
-        Heart collisionHeart = createHeart();
+        Heart collisionHeart = brickerGameManager.acquireFallingHeart();
         collisionHeart.setCenter(center);
         collisionHeart.setVelocity(Vector2.DOWN.mult(fallSpeed));
         brickerGameManager.addObject(collisionHeart);
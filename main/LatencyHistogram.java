@@ -0,0 +1,104 @@
+package bricker.main;
+
+import java.util.Arrays;
+
+/**
+ * A histogram of durations in nanoseconds with a fixed memory footprint.
+ * Durations below 32 nanoseconds are counted exactly, and longer ones in 16 buckets per power of two, so
+ * a reported percentile is within about 6% of the real one. Recording never allocates.
+ */
+public class LatencyHistogram {
+    private static final int EXACT_VALUES = 32;
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = EXACT_VALUES + (Long.SIZE - SUB_BUCKET_BITS - 1) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long total;
+    private long max;
+
+    /**
+     * Counts a duration.
+     *
+     * @param nanos The duration, in nanoseconds. Negative durations are counted as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        counts[bucketOf(value)]++;
+        total++;
+        if (value > max) {
+            max = value;
+        }
+    }
+
+    /**
+     * @return The number of durations counted.
+     */
+    public long getCount() {
+        return total;
+    }
+
+    /**
+     * @return The longest duration counted, in nanoseconds, or 0 if none was counted.
+     */
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Finds the duration that the given part of the counted durations don't exceed.
+     *
+     * @param percentile The part of the durations, between 0 and 100.
+     * @return The highest duration in the bucket of the percentile, in nanoseconds, or 0 if no duration
+     * was counted.
+     */
+    public long getPercentile(double percentile) {
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += counts[bucket];
+            if (seen >= target) {
+                return Math.min(highestValueOf(bucket), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Forgets all the counted durations.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        total = 0;
+        max = 0;
+    }
+
+    /**
+     * @param value A non-negative duration.
+     * @return The bucket the duration is counted in.
+     */
+    private static int bucketOf(long value) {
+        if (value < EXACT_VALUES) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+        return EXACT_VALUES + (shift - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * @param bucket A bucket of the histogram.
+     * @return The highest duration counted in the bucket.
+     */
+    private static long highestValueOf(int bucket) {
+        if (bucket < EXACT_VALUES) {
+            return bucket;
+        }
+        int shift = (bucket - EXACT_VALUES) / SUB_BUCKETS + 1;
+        long subBucket = (bucket - EXACT_VALUES) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((subBucket + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,71 @@
+package bricker.main;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+
+/**
+ * A pool of reusable game objects.
+ * Objects that leave the game are released back into the pool and handed out again instead of
+ * creating new ones, so steady-state play doesn't allocate new objects. The caller is responsible for
+ * resetting the state of an acquired object.
+ *
+ * @param <T> The type of the pooled objects.
+ */
+public class ObjectPool<T> {
+    private final Supplier<T> factory;
+    private final int capacity;
+    private final ArrayDeque<T> free;
+
+    /**
+     * Constructs a new bricker.main.ObjectPool instance.
+     *
+     * @param factory  Creates a new object when the pool is empty.
+     * @param capacity The maximal number of free objects kept in the pool.
+     */
+    public ObjectPool(Supplier<T> factory, int capacity) {
+        this.factory = factory;
+        this.capacity = capacity;
+        this.free = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Fills the pool with new objects up to its capacity.
+     */
+    public void prefill() {
+        while (free.size() < capacity) {
+            free.push(factory.get());
+        }
+    }
+
+    /**
+     * Takes a free object out of the pool, creating a new one if the pool is empty.
+     *
+     * @return An object that is not in use.
+     */
+    public T acquire() {
+        T object = free.poll();
+        return object != null ? object : factory.get();
+    }
+
+    /**
+     * Returns an object that is no longer in use to the pool.
+     * The object is dropped if the pool is already full.
+     *
+     * @param object The object to return. Must not be released twice.
+     * @return true if the object was kept in the pool, false if it was dropped.
+     */
+    public boolean release(T object) {
+        if (free.size() == capacity) {
+            return false;
+        }
+        free.push(object);
+        return true;
+    }
+
+    /**
+     * @return The number of free objects in the pool.
+     */
+    public int getFreeCount() {
+        return free.size();
+    }
+}
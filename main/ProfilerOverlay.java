@@ -0,0 +1,76 @@
+package bricker.main;
+
+import danogl.GameObject;
+import danogl.collisions.Layer;
+import danogl.gui.rendering.TextRenderable;
+import danogl.util.Vector2;
+
+import java.awt.Color;
+
+/**
+ * An on-screen display of the frame profiler's timings, a line for each phase of the frame.
+ * The lines are refreshed every few frames, so reading them is possible and cheap.
+ */
+class ProfilerOverlay {
+    private static final int REFRESH_FRAMES = 30;
+    private static final float LINE_HEIGHT = 14;
+    private static final float LINE_WIDTH = 330;
+
+    private final FrameProfiler profiler;
+    private final TextRenderable[] lines = new TextRenderable[FramePhase.values().length];
+    private final GameObject[] lineObjects = new GameObject[lines.length];
+    private int framesToRefresh;
+
+    /**
+     * Constructs a new bricker.main.ProfilerOverlay instance. The overlay isn't shown until it is added.
+     *
+     * @param profiler The profiler whose timings are displayed.
+     * @param topLeft  The top-left corner of the first line, in window coordinates.
+     */
+    ProfilerOverlay(FrameProfiler profiler, Vector2 topLeft) {
+        this.profiler = profiler;
+        for (int i = 0; i < lines.length; i++) {
+            lines[i] = new TextRenderable("");
+            lines[i].setColor(Color.WHITE);
+            lineObjects[i] = new GameObject(topLeft.add(new Vector2(0, i * LINE_HEIGHT)),
+                    new Vector2(LINE_WIDTH, LINE_HEIGHT), lines[i]);
+        }
+    }
+
+    /**
+     * Shows the overlay on the UI layer of the game.
+     *
+     * @param game The game to show the overlay in.
+     */
+    void addTo(BrickerGameManager game) {
+        for (GameObject line : lineObjects) {
+            game.addObject(line, Layer.UI);
+        }
+        framesToRefresh = 0;
+    }
+
+    /**
+     * Removes the overlay from the game.
+     *
+     * @param game The game the overlay is shown in.
+     */
+    void removeFrom(BrickerGameManager game) {
+        for (GameObject line : lineObjects) {
+            game.removeObject(line, Layer.UI);
+        }
+    }
+
+    /**
+     * Refreshes the displayed timings if enough frames passed since the last refresh.
+     */
+    void update() {
+        if (--framesToRefresh > 0) {
+            return;
+        }
+        framesToRefresh = REFRESH_FRAMES;
+        FramePhase[] phases = FramePhase.values();
+        for (int i = 0; i < phases.length; i++) {
+            lines[i].setString(profiler.formatPhase(phases[i]));
+        }
+    }
+}
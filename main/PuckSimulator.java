@@ -0,0 +1,414 @@
+package bricker.main;
+
+import bricker.gameobjects.Brick;
+import danogl.GameObject;
+import danogl.gui.rendering.Renderable;
+import danogl.util.Vector2;
+
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Simulates a swarm of pucks without a game object for each puck.
+ * The positions and velocities of the pucks are kept in primitive arrays and updated in tight loops, and
+ * the whole swarm is drawn by a single renderable. Bricks hit by pucks are collected during a step, so the
+ * game can execute their strategies afterwards, in order.
+ * <p>
+ * A step can be split into chunks of pucks that run in parallel on a fork-join pool. Every puck only
+ * reads the walls, paddles and bricks and writes its own slots, and the hits are collected in the order
+ * of the pucks, so a parallel step has exactly the same results as a serial one.
+ * <p>
+ * A puck is removed by moving the last puck into its slot, so the order of the pucks changes.
+ */
+public class PuckSimulator {
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int PUCKS_PER_TASK = 1024;
+    private static final int INITIAL_QUERY_SIZE = 8;
+    private static final int PADDLE_BOUNDS = 4;
+
+    private final float size;
+    private final float minX;
+    private final float maxX;
+    private final float minY;
+    private final float bottom;
+
+    private float[] x = new float[INITIAL_CAPACITY];
+    private float[] y = new float[INITIAL_CAPACITY];
+    private float[] velX = new float[INITIAL_CAPACITY];
+    private float[] velY = new float[INITIAL_CAPACITY];
+    private Brick[] hitBy = new Brick[INITIAL_CAPACITY];
+    private int count;
+
+    private Brick[] hits = new Brick[INITIAL_CAPACITY];
+    private int hitCount;
+    private final Set<Brick> hitBricks = Collections.newSetFromMap(new IdentityHashMap<>());
+    private float[] paddleBounds = new float[PADDLE_BOUNDS];
+    private int paddleCount;
+    private ForkJoinPool pool;
+    private BufferedImage sprite;
+
+    /**
+     * Constructs a new bricker.main.PuckSimulator instance with no pucks.
+     *
+     * @param size             The width and height of a puck.
+     * @param windowDimensions The dimensions of the game window. Pucks below the window are removed.
+     * @param wallSize         The thickness of the left, right and top walls the pucks bounce off.
+     */
+    public PuckSimulator(float size, Vector2 windowDimensions, float wallSize) {
+        this.size = size;
+        this.minX = wallSize;
+        this.maxX = windowDimensions.x() - wallSize - size;
+        this.minY = wallSize;
+        this.bottom = windowDimensions.y();
+    }
+
+    /**
+     * Adds a puck to the swarm.
+     *
+     * @param centerX The horizontal position of the center of the puck.
+     * @param centerY The vertical position of the center of the puck.
+     * @param vx      The horizontal velocity of the puck.
+     * @param vy      The vertical velocity of the puck.
+     */
+    public void spawn(float centerX, float centerY, float vx, float vy) {
+        if (count == x.length) {
+            int capacity = count * 2;
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+            velX = Arrays.copyOf(velX, capacity);
+            velY = Arrays.copyOf(velY, capacity);
+            hitBy = Arrays.copyOf(hitBy, capacity);
+        }
+        x[count] = centerX - size / 2;
+        y[count] = centerY - size / 2;
+        velX[count] = vx;
+        velY[count] = vy;
+        count++;
+    }
+
+    /**
+     * Runs the steps of the swarm on a fork-join pool, in chunks of pucks, or on the calling thread.
+     *
+     * @param pool The pool to run the steps on, or null to run them on the calling thread.
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Moves the pucks by their velocities and bounces them off the walls, the paddles and the bricks.
+     * A puck bounces off the first brick it touches in a step, and the bricks hit can be read with
+     * {@link #getHit(int)} until the next step. A brick hit by several pucks in a step is only reported
+     * for the first of them. The bricks are only read, so their strategies should be executed after the
+     * step.
+     *
+     * @param deltaTime The time to move the pucks for.
+     * @param paddles   The paddles the pucks bounce off.
+     * @param grid      The grid of the bricks that are still alive.
+     * @return The number of bricks hit, in the order of the first puck that hit each of them.
+     */
+    public int step(float deltaTime, GameObject[] paddles, BrickGrid grid) {
+        setPaddles(paddles);
+        if (pool == null || count <= PUCKS_PER_TASK) {
+            stepRange(deltaTime, grid, 0, count, new Brick[INITIAL_QUERY_SIZE]);
+        }
+        else {
+            pool.invoke(new StepTask(deltaTime, grid, 0, count));
+        }
+        hitCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (hitBy[i] != null) {
+                if (hitBricks.add(hitBy[i])) {
+                    addHit(hitBy[i]);
+                }
+                hitBy[i] = null;
+            }
+        }
+        hitBricks.clear();
+        return hitCount;
+    }
+
+    /**
+     * @param index The index of the hit, smaller than the result of the last brick collision.
+     * @return The brick hit at the given index.
+     */
+    public Brick getHit(int index) {
+        return hits[index];
+    }
+
+    /**
+     * Removes the pucks that fell below the window.
+     *
+     * @return The number of removed pucks.
+     */
+    public int removeOutOfBounds() {
+        int removed = 0;
+        int i = 0;
+        while (i < count) {
+            if (y[i] > bottom) {
+                count--;
+                x[i] = x[count];
+                y[i] = y[count];
+                velX[i] = velX[count];
+                velY[i] = velY[count];
+                removed++;
+            }
+            else {
+                i++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Removes all the pucks.
+     */
+    public void clear() {
+        count = 0;
+        hitCount = 0;
+        Arrays.fill(hits, null);
+    }
+
+    /**
+     * @return The number of pucks in the swarm.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * @param index The index of the puck, smaller than the number of pucks.
+     * @return The horizontal position of the center of the puck.
+     */
+    public float getCenterX(int index) {
+        return x[index] + size / 2;
+    }
+
+    /**
+     * @param index The index of the puck, smaller than the number of pucks.
+     * @return The vertical position of the center of the puck.
+     */
+    public float getCenterY(int index) {
+        return y[index] + size / 2;
+    }
+
+    /**
+     * @param index The index of the puck, smaller than the number of pucks.
+     * @return The horizontal velocity of the puck.
+     */
+    public float getVelocityX(int index) {
+        return velX[index];
+    }
+
+    /**
+     * @param index The index of the puck, smaller than the number of pucks.
+     * @return The vertical velocity of the puck.
+     */
+    public float getVelocityY(int index) {
+        return velY[index];
+    }
+
+    /**
+     * Creates a renderable that draws every puck of the swarm with the given image.
+     * The position and size given to the renderable are ignored.
+     * The image is drawn into a sprite of the size of a puck the first time the swarm is drawn, and the
+     * sprite is stamped at every puck, so drawing the swarm doesn't allocate. A swarm that is never drawn,
+     * as in a headless game, never reads the image.
+     *
+     * @param puckImage The image of a single puck.
+     * @return The renderable of the swarm.
+     */
+    public Renderable createRenderable(Renderable puckImage) {
+        return (g, topLeftCorner, ignored, degreesCounterClockwise, isFlippedHorizontally,
+                isFlippedVertically, opacity) -> render(g, puckImage, opacity);
+    }
+
+    /**
+     * Draws every puck of the swarm.
+     *
+     * @param g         The graphics to draw on.
+     * @param puckImage The image of a single puck.
+     * @param opacity   The opacity to draw the pucks with.
+     */
+    private void render(Graphics2D g, Renderable puckImage, double opacity) {
+        if (sprite == null) {
+            int spriteSize = (int) Math.ceil(size);
+            sprite = new BufferedImage(spriteSize, spriteSize, BufferedImage.TYPE_INT_ARGB);
+            Graphics2D spriteGraphics = sprite.createGraphics();
+            puckImage.render(spriteGraphics, Vector2.ZERO, new Vector2(size, size), 0, false, false, 1);
+            spriteGraphics.dispose();
+        }
+        Composite composite = g.getComposite();
+        if (opacity < 1) {
+            g.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, (float) opacity));
+        }
+        for (int i = 0; i < count; i++) {
+            g.drawImage(sprite, Math.round(x[i]), Math.round(y[i]), null);
+        }
+        g.setComposite(composite);
+    }
+
+    /**
+     * Saves the bounds of the paddles, so the steps don't read the paddles themselves.
+     *
+     * @param paddles The paddles the pucks bounce off. Null entries are skipped.
+     */
+    private void setPaddles(GameObject[] paddles) {
+        if (paddleBounds.length < paddles.length * PADDLE_BOUNDS) {
+            paddleBounds = new float[paddles.length * PADDLE_BOUNDS];
+        }
+        paddleCount = 0;
+        for (GameObject paddle : paddles) {
+            if (paddle == null) {
+                continue;
+            }
+            Vector2 corner = paddle.getTopLeftCorner();
+            Vector2 dimensions = paddle.getDimensions();
+            int bound = paddleCount * PADDLE_BOUNDS;
+            paddleBounds[bound] = corner.x() - size;
+            paddleBounds[bound + 1] = corner.x() + dimensions.x();
+            paddleBounds[bound + 2] = corner.y() - size;
+            paddleBounds[bound + 3] = corner.y() + dimensions.y();
+            paddleCount++;
+        }
+    }
+
+    /**
+     * Steps a range of the pucks. Only the slots of the pucks in the range are written.
+     *
+     * @param deltaTime The time to move the pucks for.
+     * @param grid      The grid of the bricks that are still alive.
+     * @param from      The first puck to step.
+     * @param to        The puck after the last one to step.
+     * @param found     An array for the bricks found around a puck.
+     */
+    private void stepRange(float deltaTime, BrickGrid grid, int from, int to, Brick[] found) {
+        float[] x = this.x;
+        float[] y = this.y;
+        float[] velX = this.velX;
+        float[] velY = this.velY;
+        for (int i = from; i < to; i++) {
+            //walls
+            float newX = x[i] + velX[i] * deltaTime;
+            float newY = y[i] + velY[i] * deltaTime;
+            if (newX < minX) {
+                newX = minX;
+                velX[i] = Math.abs(velX[i]);
+            }
+            else if (newX > maxX) {
+                newX = maxX;
+                velX[i] = -Math.abs(velX[i]);
+            }
+            if (newY < minY) {
+                newY = minY;
+                velY[i] = Math.abs(velY[i]);
+            }
+            //paddles
+            for (int paddle = 0; paddle < paddleCount; paddle++) {
+                int bound = paddle * PADDLE_BOUNDS;
+                if (velY[i] > 0 && newX > paddleBounds[bound] && newX < paddleBounds[bound + 1] &&
+                        newY > paddleBounds[bound + 2] && newY < paddleBounds[bound + 3]) {
+                    newY = paddleBounds[bound + 2];
+                    velY[i] = -velY[i];
+                }
+            }
+            x[i] = newX;
+            y[i] = newY;
+            //bricks
+            int bricks = grid.query(newX, newY, size, size, found);
+            if (bricks > found.length) {
+                found = new Brick[bricks];
+                bricks = grid.query(newX, newY, size, size, found);
+            }
+            for (int j = 0; j < bricks; j++) {
+                if (bounceOff(i, found[j])) {
+                    hitBy[i] = found[j];
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Bounces a puck off a brick if they overlap, along the axis of the smaller overlap.
+     *
+     * @param i     The index of the puck.
+     * @param brick The brick.
+     * @return true if the puck touched the brick, false otherwise.
+     */
+    private boolean bounceOff(int i, Brick brick) {
+        Vector2 corner = brick.getTopLeftCorner();
+        Vector2 dimensions = brick.getDimensions();
+        float overlapX = Math.min(x[i] + size, corner.x() + dimensions.x()) - Math.max(x[i], corner.x());
+        float overlapY = Math.min(y[i] + size, corner.y() + dimensions.y()) - Math.max(y[i], corner.y());
+        if (overlapX <= 0 || overlapY <= 0) {
+            return false;
+        }
+        boolean fromLeftOrTop;
+        if (overlapX < overlapY) {
+            fromLeftOrTop = x[i] + size / 2 < corner.x() + dimensions.x() / 2;
+            velX[i] = fromLeftOrTop ? -Math.abs(velX[i]) : Math.abs(velX[i]);
+        }
+        else {
+            fromLeftOrTop = y[i] + size / 2 < corner.y() + dimensions.y() / 2;
+            velY[i] = fromLeftOrTop ? -Math.abs(velY[i]) : Math.abs(velY[i]);
+        }
+        return true;
+    }
+
+    /**
+     * Adds a brick to the hits of the current step.
+     *
+     * @param brick The hit brick.
+     */
+    private void addHit(Brick brick) {
+        if (hitCount == hits.length) {
+            hits = Arrays.copyOf(hits, hitCount * 2);
+        }
+        hits[hitCount++] = brick;
+    }
+
+    /**
+     * A step of a range of the pucks, split in halves until the ranges are small enough.
+     */
+    private final class StepTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final float deltaTime;
+        private final BrickGrid grid;
+        private final int from;
+        private final int to;
+
+        /**
+         * Constructs a new bricker.main.PuckSimulator.StepTask instance.
+         *
+         * @param deltaTime The time to move the pucks for.
+         * @param grid      The grid of the bricks that are still alive.
+         * @param from      The first puck to step.
+         * @param to        The puck after the last one to step.
+         */
+        StepTask(float deltaTime, BrickGrid grid, int from, int to) {
+            this.deltaTime = deltaTime;
+            this.grid = grid;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PUCKS_PER_TASK) {
+                stepRange(deltaTime, grid, from, to, new Brick[INITIAL_QUERY_SIZE]);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new StepTask(deltaTime, grid, from, middle), new StepTask(deltaTime, grid, middle, to));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package bricker.main;
+
+import danogl.gui.ImageReader;
+import danogl.gui.Sound;
+import danogl.gui.SoundReader;
+import danogl.gui.rendering.Renderable;
+
+/**
+ * An asset source that reads the assets through the readers of the game window.
+ * The danogl readers aren't documented as thread-safe, and they cache what they read, so each reader is
+ * only ever called by one thread at a time. Images and sounds have separate readers, so an image and a
+ * sound can still be read at the same time.
+ */
+class ReaderAssetSource implements AssetSource {
+    private final ImageReader imageReader;
+    private final SoundReader soundReader;
+
+    /**
+     * Constructs a new bricker.main.ReaderAssetSource instance.
+     *
+     * @param imageReader Utility for reading game images.
+     * @param soundReader Utility for reading game sounds.
+     */
+    ReaderAssetSource(ImageReader imageReader, SoundReader soundReader) {
+        this.imageReader = imageReader;
+        this.soundReader = soundReader;
+    }
+
+    @Override
+    public Renderable readImage(String path, boolean isTopLeftPixelTransparent) {
+        synchronized (imageReader) {
+            return imageReader.readImage(path, isTopLeftPixelTransparent);
+        }
+    }
+
+    @Override
+    public Sound readSound(String path) {
+        synchronized (soundReader) {
+            return soundReader.readSound(path);
+        }
+    }
+}
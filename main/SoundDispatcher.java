@@ -0,0 +1,202 @@
+package bricker.main;
+
+import danogl.gui.Sound;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Plays the sounds of the game off the game thread, with a bounded cost no matter how many are requested.
+ * <p>
+ * The sounds requested during a frame are coalesced, so a sound requested many times in a frame is played
+ * once. At the end of the frame, each sound is played only if the same sound wasn't played too recently and
+ * one of a fixed number of voices is free, and the rest are dropped. A voice is busy for a fixed time after
+ * it starts a sound. Sounds are played in order by a single audio thread; if it falls behind, new sounds
+ * are dropped instead of queued. A sound the audio thread fails to play is counted as a failure.
+ */
+public class SoundDispatcher {
+    private static final int QUEUE_CAPACITY = 16;
+    private static final long NANOS_PER_MILLI = 1_000_000;
+
+    private final long[] voiceFreeAt;
+    private final long voiceNanos;
+    private final long minRepeatNanos;
+    private final BlockingQueue<Sound> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    private Sound[] pending = new Sound[4];
+    private int pendingCount;
+    private Sound[] played = new Sound[4];
+    private long[] playedAt = new long[4];
+    private int playedCount;
+    private Thread audioThread;
+
+    private long requests;
+    private long plays;
+    private long drops;
+    //written only by the audio thread
+    private volatile long failures;
+
+    /**
+     * Constructs a new bricker.main.SoundDispatcher instance. The audio thread is started by the first
+     * sound played.
+     *
+     * @param voices          The number of sounds that can play at the same time.
+     * @param voiceMillis     The time a voice is busy after it starts a sound, in milliseconds.
+     * @param minRepeatMillis The shortest time between two plays of the same sound, in milliseconds.
+     */
+    public SoundDispatcher(int voices, long voiceMillis, long minRepeatMillis) {
+        this.voiceFreeAt = new long[voices];
+        this.voiceNanos = voiceMillis * NANOS_PER_MILLI;
+        this.minRepeatNanos = minRepeatMillis * NANOS_PER_MILLI;
+    }
+
+    /**
+     * Requests a sound to be played at the end of the frame. Called on the game thread.
+     *
+     * @param sound The sound to play.
+     */
+    public void request(Sound sound) {
+        requests++;
+        for (int i = 0; i < pendingCount; i++) {
+            if (pending[i] == sound) {
+                return;
+            }
+        }
+        if (pendingCount == pending.length) {
+            pending = Arrays.copyOf(pending, pendingCount * 2);
+        }
+        pending[pendingCount++] = sound;
+    }
+
+    /**
+     * Hands the sounds requested during the frame to the audio thread, within the voice and rate limits.
+     * Called on the game thread once a frame.
+     */
+    public void flush() {
+        if (pendingCount == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (int i = 0; i < pendingCount; i++) {
+            Sound sound = pending[i];
+            pending[i] = null;
+            int voice = freeVoice(now);
+            if (voice < 0 || !mayRepeat(sound, now) || !queue.offer(sound)) {
+                drops++;
+                continue;
+            }
+            voiceFreeAt[voice] = now + voiceNanos;
+            markPlayed(sound, now);
+            plays++;
+            startAudioThread();
+        }
+        pendingCount = 0;
+    }
+
+    /**
+     * @return The number of sounds requested so far.
+     */
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * @return The number of sounds handed to the audio thread so far.
+     */
+    public long getPlays() {
+        return plays;
+    }
+
+    /**
+     * @return The number of coalesced sounds dropped by the voice and rate limits so far.
+     */
+    public long getDrops() {
+        return drops;
+    }
+
+    /**
+     * @return The number of sounds the audio thread failed to play so far. Safe to call on any thread.
+     */
+    public long getFailures() {
+        return failures;
+    }
+
+    /**
+     * @param now The current time.
+     * @return A voice that isn't playing a sound, or -1 if all are busy.
+     */
+    private int freeVoice(long now) {
+        for (int voice = 0; voice < voiceFreeAt.length; voice++) {
+            if (voiceFreeAt[voice] - now <= 0) {
+                return voice;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param sound A sound.
+     * @param now   The current time.
+     * @return true if the sound wasn't played within the repeat limit, false otherwise.
+     */
+    private boolean mayRepeat(Sound sound, long now) {
+        for (int i = 0; i < playedCount; i++) {
+            if (played[i] == sound) {
+                return now - playedAt[i] >= minRepeatNanos;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Remembers when a sound was last played.
+     *
+     * @param sound The played sound.
+     * @param now   The current time.
+     */
+    private void markPlayed(Sound sound, long now) {
+        for (int i = 0; i < playedCount; i++) {
+            if (played[i] == sound) {
+                playedAt[i] = now;
+                return;
+            }
+        }
+        if (playedCount == played.length) {
+            played = Arrays.copyOf(played, playedCount * 2);
+            playedAt = Arrays.copyOf(playedAt, playedCount * 2);
+        }
+        played[playedCount] = sound;
+        playedAt[playedCount++] = now;
+    }
+
+    /**
+     * Starts the thread that plays the queued sounds, if it isn't running yet.
+     */
+    private void startAudioThread() {
+        if (audioThread != null) {
+            return;
+        }
+        audioThread = new Thread(() -> {
+            while (true) {
+                Sound sound;
+                try {
+                    sound = queue.take();
+                }
+                catch (InterruptedException e) {
+                    return;
+                }
+                try {
+                    sound.play();
+                }
+                catch (RuntimeException e) {
+                    //a sound that fails to play, e.g. when no audio line is free, is counted and skipped,
+                    //and the thread keeps playing the rest
+                    failures++;
+                }
+            }
+        }, "bricker-audio");
+        audioThread.setDaemon(true);
+        audioThread.start();
+    }
+}
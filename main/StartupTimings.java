@@ -0,0 +1,112 @@
+package bricker.main;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+/**
+ * A breakdown of the time it took the game to start, from the start of the JVM to the first frame.
+ */
+public class StartupTimings {
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    private final AssetRegistry assetRegistry;
+    private final long initializeStart;
+    private long assetsReady;
+    private long objectsCreated;
+    private long firstFrame;
+    private long jvmUptimeAtFirstFrame;
+
+    /**
+     * Constructs a new bricker.main.StartupTimings instance, marking the start of the game's
+     * initialization.
+     *
+     * @param assetRegistry The registry the game's assets are read through.
+     */
+    StartupTimings(AssetRegistry assetRegistry) {
+        this.assetRegistry = assetRegistry;
+        this.initializeStart = System.nanoTime();
+    }
+
+    /**
+     * Marks the point where all the assets needed to build the game are ready.
+     * Has no effect after the first frame, so game resets don't overwrite the startup timings.
+     */
+    void markAssetsReady() {
+        if (!isComplete()) {
+            assetsReady = System.nanoTime();
+        }
+    }
+
+    /**
+     * Marks the point where all the starting objects of the game were created.
+     * Has no effect after the first frame, so game resets don't overwrite the startup timings.
+     */
+    void markObjectsCreated() {
+        if (!isComplete()) {
+            objectsCreated = System.nanoTime();
+        }
+    }
+
+    /**
+     * Marks the first frame of the game. Only the first call has an effect.
+     */
+    void markFirstFrame() {
+        if (firstFrame == 0) {
+            firstFrame = System.nanoTime();
+            jvmUptimeAtFirstFrame = ManagementFactory.getRuntimeMXBean().getUptime();
+        }
+    }
+
+    /**
+     * @return true if the first frame was already reached, false otherwise.
+     */
+    public boolean isComplete() {
+        return firstFrame != 0;
+    }
+
+    /**
+     * @return The time from the start of the initialization until the assets were ready, in nanoseconds.
+     */
+    public long getAssetsNanos() {
+        return assetsReady - initializeStart;
+    }
+
+    /**
+     * @return The time it took to create the starting objects, in nanoseconds.
+     */
+    public long getObjectsNanos() {
+        return objectsCreated - assetsReady;
+    }
+
+    /**
+     * @return The time from the start of the initialization until the first frame, in nanoseconds.
+     */
+    public long getInitializeToFirstFrameNanos() {
+        return firstFrame - initializeStart;
+    }
+
+    /**
+     * @return The time from the start of the JVM until the first frame, in milliseconds.
+     */
+    public long getColdStartMillis() {
+        return jvmUptimeAtFirstFrame;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("Startup timings:\n");
+        builder.append(String.format("  JVM start to first frame:   %d ms%n", jvmUptimeAtFirstFrame));
+        builder.append(String.format("  initialize to first frame:  %.2f ms%n",
+                getInitializeToFirstFrameNanos() / NANOS_PER_MILLI));
+        builder.append(String.format("    assets ready:             %.2f ms (blocked %.2f ms)%n",
+                getAssetsNanos() / NANOS_PER_MILLI, assetRegistry.getBlockedNanos() / NANOS_PER_MILLI));
+        builder.append(String.format("    objects created:          %.2f ms%n",
+                getObjectsNanos() / NANOS_PER_MILLI));
+        builder.append("  asset read times:\n");
+        for (Map.Entry<String, Long> entry : assetRegistry.getLoadNanos().entrySet()) {
+            builder.append(String.format("    %-30s %.2f ms%n", entry.getKey(),
+                    entry.getValue() / NANOS_PER_MILLI));
+        }
+        return builder.toString();
+    }
+}
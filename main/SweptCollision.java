@@ -0,0 +1,89 @@
+package bricker.main;
+
+import danogl.GameObject;
+import danogl.util.Vector2;
+
+/**
+ * Swept axis-aligned bounding box tests.
+ * Finds the time of impact of a moving box with a static box along its displacement in a frame, so fast
+ * balls can't skip through thin objects between frames. The normal of the last hit found is kept in the
+ * instance, so tests don't allocate.
+ */
+public class SweptCollision {
+    /**
+     * The time of impact returned when the boxes don't meet during the displacement.
+     */
+    public static final float NO_HIT = Float.POSITIVE_INFINITY;
+
+    private Vector2 normal;
+
+    /**
+     * Finds when a moving box first touches a static object during a displacement.
+     * A box that already overlaps the object at the start of the displacement doesn't hit it.
+     *
+     * @param x      The left edge of the moving box at the start of the displacement.
+     * @param y      The top edge of the moving box at the start of the displacement.
+     * @param width  The width of the moving box.
+     * @param height The height of the moving box.
+     * @param dx     The horizontal displacement of the box.
+     * @param dy     The vertical displacement of the box.
+     * @param target The static object.
+     * @return The fraction of the displacement, in [0, 1), at which the box touches the object, or
+     * {@link #NO_HIT}. On a hit, {@link #getNormal()} gives the face of the object that was hit.
+     */
+    public float timeOfImpact(float x, float y, float width, float height, float dx, float dy,
+                              GameObject target) {
+        Vector2 targetCorner = target.getTopLeftCorner();
+        Vector2 targetDim = target.getDimensions();
+        float targetLeft = targetCorner.x();
+        float targetTop = targetCorner.y();
+        float targetRight = targetLeft + targetDim.x();
+        float targetBottom = targetTop + targetDim.y();
+        float entryX;
+        float exitX;
+        if (dx == 0) {
+            if (x + width <= targetLeft || x >= targetRight) {
+                return NO_HIT;
+            }
+            entryX = Float.NEGATIVE_INFINITY;
+            exitX = Float.POSITIVE_INFINITY;
+        }
+        else {
+            entryX = (dx > 0 ? targetLeft - (x + width) : targetRight - x) / dx;
+            exitX = (dx > 0 ? targetRight - x : targetLeft - (x + width)) / dx;
+        }
+        float entryY;
+        float exitY;
+        if (dy == 0) {
+            if (y + height <= targetTop || y >= targetBottom) {
+                return NO_HIT;
+            }
+            entryY = Float.NEGATIVE_INFINITY;
+            exitY = Float.POSITIVE_INFINITY;
+        }
+        else {
+            entryY = (dy > 0 ? targetTop - (y + height) : targetBottom - y) / dy;
+            exitY = (dy > 0 ? targetBottom - y : targetTop - (y + height)) / dy;
+        }
+        float entry = Math.max(entryX, entryY);
+        float exit = Math.min(exitX, exitY);
+        if (entry > exit || entry < 0 || entry >= 1) {
+            return NO_HIT;
+        }
+        if (entryX > entryY) {
+            normal = dx > 0 ? Vector2.LEFT : Vector2.RIGHT;
+        }
+        else {
+            normal = dy > 0 ? Vector2.UP : Vector2.DOWN;
+        }
+        return entry;
+    }
+
+    /**
+     * @return The normal of the face hit in the last test that found a hit, pointing away from the
+     * hit object.
+     */
+    public Vector2 getNormal() {
+        return normal;
+    }
+}
@@ -0,0 +1,118 @@
+package bricker.simulation;
+
+import bricker.gameobjects.Entity;
+import bricker.gameobjects.EntityKind;
+import bricker.main.BrickerGameManager;
+import bricker.main.EntityIndex;
+import danogl.util.Vector2;
+
+import java.awt.event.KeyEvent;
+
+/**
+ * A script that plays the game: it moves the paddle to where the ball will come down.
+ * The landing point is predicted from the velocity of the ball, reflecting it off the side and top walls.
+ * Bricks in the way aren't taken into account, so the prediction is corrected as the ball bounces.
+ */
+public class AutoPlayer implements PaddleScript {
+    private final BrickerGameManager game;
+    private long plannedFrame = -1;
+    private int plannedKey;
+
+    /**
+     * Constructs a new bricker.simulation.AutoPlayer instance.
+     *
+     * @param game The game to play.
+     */
+    public AutoPlayer(BrickerGameManager game) {
+        this.game = game;
+    }
+
+    /**
+     * Checks whether a key is pressed in a given frame. The move is planned once a frame.
+     *
+     * @param frame   The number of the current frame, starting from 0.
+     * @param keyCode The code of the key, as defined in {@link KeyEvent}.
+     * @return true if the key moves the paddle towards the landing point of the ball, false otherwise.
+     */
+    @Override
+    public boolean isKeyPressed(long frame, int keyCode) {
+        if (frame != plannedFrame) {
+            plannedFrame = frame;
+            plannedKey = planMove();
+        }
+        return keyCode == plannedKey;
+    }
+
+    /**
+     * @return The key that moves the paddle towards the landing point of the ball, or
+     * {@link KeyEvent#VK_UNDEFINED} if the paddle is already there.
+     */
+    private int planMove() {
+        EntityIndex entities = game.getEntities();
+        if (entities.count(EntityKind.BALL) == 0 || entities.count(EntityKind.PADDLE) == 0) {
+            return KeyEvent.VK_UNDEFINED;
+        }
+        Entity ball = entities.get(EntityKind.BALL, 0);
+        Entity paddle = entities.get(EntityKind.PADDLE, 0);
+        float target = predictLandingX(ball, paddle.getTopLeftCorner().y());
+        float paddleX = paddle.getCenter().x();
+        float deadZone = paddle.getDimensions().x() / 4;
+        if (target < paddleX - deadZone) {
+            return KeyEvent.VK_LEFT;
+        }
+        if (target > paddleX + deadZone) {
+            return KeyEvent.VK_RIGHT;
+        }
+        return KeyEvent.VK_UNDEFINED;
+    }
+
+    /**
+     * Predicts where the center of the ball will be when it comes down to a given height.
+     *
+     * @param ball     The ball.
+     * @param landingY The height the ball comes down to.
+     * @return The horizontal position of the center of the ball at that height.
+     */
+    private float predictLandingX(Entity ball, float landingY) {
+        Vector2 center = ball.getCenter();
+        Vector2 velocity = ball.getVelocity();
+        float radius = ball.getDimensions().x() / 2;
+        float wall = game.getWallSize();
+        float minX = wall + radius;
+        float maxX = game.getWindowDimensions().x() - wall - radius;
+        float topY = wall + radius;
+        float speedY = Math.abs(velocity.y());
+        if (speedY == 0) {
+            return center.x();
+        }
+        float time;
+        if (velocity.y() > 0) {
+            time = (landingY - radius - center.y()) / speedY;
+        }
+        else {
+            //up to the top wall, then all the way down
+            time = (center.y() - topY) / speedY + (landingY - radius - topY) / speedY;
+        }
+        return reflect(center.x() + velocity.x() * Math.max(time, 0), minX, maxX);
+    }
+
+    /**
+     * Folds a position that went past the side walls back between them, as the bounces off the walls do.
+     *
+     * @param x    The position as if there were no walls.
+     * @param minX The smallest position between the walls.
+     * @param maxX The largest position between the walls.
+     * @return The position after the bounces.
+     */
+    private static float reflect(float x, float minX, float maxX) {
+        float width = maxX - minX;
+        if (width <= 0) {
+            return minX;
+        }
+        float offset = (x - minX) % (2 * width);
+        if (offset < 0) {
+            offset += 2 * width;
+        }
+        return minX + (offset > width ? 2 * width - offset : offset);
+    }
+}
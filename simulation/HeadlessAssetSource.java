@@ -0,0 +1,22 @@
+package bricker.simulation;
+
+import bricker.main.AssetSource;
+import danogl.gui.Sound;
+import danogl.gui.rendering.Renderable;
+
+/**
+ * An asset source that reads nothing from the disk.
+ * Images are not rendered and sounds are not played in a headless run, so every asset is null.
+ */
+public class HeadlessAssetSource implements AssetSource {
+
+    @Override
+    public Renderable readImage(String path, boolean isTopLeftPixelTransparent) {
+        return null;
+    }
+
+    @Override
+    public Sound readSound(String path) {
+        return null;
+    }
+}
@@ -0,0 +1,246 @@
+package bricker.simulation;
+
+import bricker.main.BrickerGameManager;
+import danogl.gui.UserInputListener;
+import danogl.gui.WindowController;
+import danogl.util.Vector2;
+
+import java.lang.reflect.Proxy;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Runs a Bricker game without a window.
+ * The runner drives the game with a fixed time step, feeds it scripted input and stands in for the
+ * game window, so the real game rules can be run (and profiled) on machines with no display.
+ */
+public class HeadlessRunner {
+    private static final float DEF_DELTA_TIME = 1f / 60;
+    private static final int DEF_FRAMES = 100_000;
+    private static final int MAX_KEY_CODE = 0xFF;
+
+    private final BrickerGameManager game;
+    private final PaddleScript script;
+    private final UserInputListener inputListener;
+    private final WindowController windowController;
+    private boolean answerYes = true;
+    private boolean resetRequested;
+    private boolean closed;
+    private long frame;
+    private int games;
+
+    /**
+     * Constructs a new bricker.simulation.HeadlessRunner instance.
+     *
+     * @param game   The game to run. Its assets are replaced by a {@link HeadlessAssetSource}.
+     * @param script The script of the keys pressed in every frame.
+     */
+    public HeadlessRunner(BrickerGameManager game, PaddleScript script) {
+        this.game = game;
+        this.script = script;
+        this.inputListener = createInputListener();
+        this.windowController = createWindowController(game.getWindowDimensions());
+        game.setAssetSource(new HeadlessAssetSource());
+    }
+
+    /**
+     * Sets the answer given to the "play again?" dialogs at the end of a game.
+     *
+     * @param answerYes true to start a new game, false to close the window and stop the run.
+     */
+    public void setAnswerYes(boolean answerYes) {
+        this.answerYes = answerYes;
+    }
+
+    /**
+     * Initializes the game and runs it for the given number of frames, or until the window is closed.
+     *
+     * @param frames    The number of frames to run.
+     * @param deltaTime The fixed time that passes in every frame, in seconds.
+     * @return The result of the run.
+     */
+    public SimulationResult run(long frames, float deltaTime) {
+        initialize();
+        long start = System.nanoTime();
+        while (frame < frames && !closed) {
+            step(deltaTime);
+        }
+        return new SimulationResult(frame, games, System.nanoTime() - start);
+    }
+
+    /**
+     * Initializes a new game with the headless stand-ins and restarts the frame count.
+     */
+    public void initialize() {
+        closed = false;
+        frame = 0;
+        games = 1;
+        initializeGame();
+    }
+
+    /**
+     * Simulates a single frame, starting a new game if the game asked to be reset.
+     * Does nothing once the window is closed.
+     *
+     * @param deltaTime The time that passes in the frame, in seconds.
+     */
+    public void step(float deltaTime) {
+        if (closed) {
+            return;
+        }
+        game.update(deltaTime);
+        frame++;
+        if (resetRequested) {
+            games++;
+            initializeGame();
+        }
+    }
+
+    /**
+     * @return true if the game closed the simulated window, false otherwise.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * @return The game driven by this runner.
+     */
+    public BrickerGameManager getGame() {
+        return game;
+    }
+
+    /**
+     * @return The number of the frame currently being simulated.
+     */
+    public long getFrame() {
+        return frame;
+    }
+
+    /**
+     * @return The number of games played so far, including the one in progress.
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * @return The input listener that reads the script of this runner.
+     */
+    public UserInputListener getInputListener() {
+        return inputListener;
+    }
+
+    /**
+     * @return The window controller standing in for the game window.
+     */
+    public WindowController getWindowController() {
+        return windowController;
+    }
+
+    /**
+     * Initializes (or re-initializes, after a reset) the game with the headless stand-ins.
+     */
+    private void initializeGame() {
+        resetRequested = false;
+        game.initializeGame(null, null, inputListener, windowController);
+    }
+
+    /**
+     * Creates an input listener that answers key queries from the script.
+     *
+     * @return The created input listener.
+     */
+    private UserInputListener createInputListener() {
+        return (UserInputListener) Proxy.newProxyInstance(UserInputListener.class.getClassLoader(),
+                new Class<?>[]{UserInputListener.class}, (proxy, method, args) -> {
+                    return switch (method.getName()) {
+                        case "isKeyPressed" -> script.isKeyPressed(frame, (Integer) args[0]);
+                        case "pressedKeys" -> pressedKeys();
+                        default -> defaultValue(method.getReturnType());
+                    };
+                });
+    }
+
+    /**
+     * Creates a window controller that handles the requests of the game without a window.
+     *
+     * @param windowDimensions The dimensions of the simulated window.
+     * @return The created window controller.
+     */
+    private WindowController createWindowController(Vector2 windowDimensions) {
+        return (WindowController) Proxy.newProxyInstance(WindowController.class.getClassLoader(),
+                new Class<?>[]{WindowController.class}, (proxy, method, args) -> {
+                    return switch (method.getName()) {
+                        case "openYesNoDialog" -> answerYes;
+                        case "resetGame" -> {
+                            resetRequested = true;
+                            yield null;
+                        }
+                        case "closeWindow" -> {
+                            closed = true;
+                            yield null;
+                        }
+                        case "getWindowDimensions" -> windowDimensions;
+                        default -> defaultValue(method.getReturnType());
+                    };
+                });
+    }
+
+    /**
+     * @return The keys the script presses in the current frame.
+     */
+    private Set<Integer> pressedKeys() {
+        Set<Integer> keys = new HashSet<>();
+        for (int keyCode = 0; keyCode <= MAX_KEY_CODE; keyCode++) {
+            if (script.isKeyPressed(frame, keyCode)) {
+                keys.add(keyCode);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * @param type A return type of a stand-in method.
+     * @return The value returned for a method the stand-ins don't handle.
+     */
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == float.class) {
+            return 0f;
+        }
+        if (type == double.class) {
+            return 0d;
+        }
+        return null;
+    }
+
+    /**
+     * Runs a headless game and prints the simulated frame rate.
+     *
+     * @param args Optional: number of frames, then number of rows and cols for the brick wall.
+     */
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        long frames = args.length >= 1 ? Long.parseLong(args[0]) : DEF_FRAMES;
+        Vector2 windowDimensions = new Vector2(500, 650);
+        BrickerGameManager game;
+        if (args.length == 3) {
+            game = new BrickerGameManager("Bricker", windowDimensions,
+                    Integer.parseInt(args[1]), Integer.parseInt(args[2]));
+        }
+        else {
+            game = new BrickerGameManager("Bricker", windowDimensions);
+        }
+        HeadlessRunner runner = new HeadlessRunner(game, PaddleScript.sweep(60));
+        System.out.println(runner.run(frames, DEF_DELTA_TIME));
+    }
+}
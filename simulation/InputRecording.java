@@ -0,0 +1,213 @@
+package bricker.simulation;
+
+import danogl.gui.UserInputListener;
+import danogl.util.Vector2;
+
+import java.awt.event.KeyEvent;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * A recording of a game session: the seed and layout of the game, and for every frame its time step
+ * and the state of the keys the game reads.
+ * A recording is itself a {@link PaddleScript}, so a session can be replayed exactly in a headless run.
+ * On disk, the key states are run-length encoded, since they rarely change from frame to frame.
+ */
+public class InputRecording implements PaddleScript {
+    /**
+     * The keys the game reads, in the order of their bits in a key mask.
+     */
+    private static final int[] TRACKED_KEYS = {KeyEvent.VK_LEFT, KeyEvent.VK_RIGHT, KeyEvent.VK_W};
+    private static final int MAGIC = 0x42524B52;
+    private static final int VERSION = 1;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final long seed;
+    private final int rows;
+    private final int cols;
+    private final Vector2 windowDimensions;
+    private float[] deltaTimes = new float[INITIAL_CAPACITY];
+    private byte[] keyMasks = new byte[INITIAL_CAPACITY];
+    private int frameCount;
+
+    /**
+     * Constructs a new, empty bricker.simulation.InputRecording instance.
+     *
+     * @param seed             The seed the recorded game was started with.
+     * @param rows             The number of rows in the brick wall of the recorded game.
+     * @param cols             The number of columns in the brick wall of the recorded game.
+     * @param windowDimensions The dimensions of the window of the recorded game.
+     */
+    public InputRecording(long seed, int rows, int cols, Vector2 windowDimensions) {
+        this.seed = seed;
+        this.rows = rows;
+        this.cols = cols;
+        this.windowDimensions = windowDimensions;
+    }
+
+    /**
+     * Reads the state of the tracked keys into a key mask.
+     *
+     * @param inputListener The listener to read the keys from.
+     * @return The key mask, with a set bit for every pressed tracked key.
+     */
+    public static int maskOf(UserInputListener inputListener) {
+        int mask = 0;
+        for (int i = 0; i < TRACKED_KEYS.length; i++) {
+            if (inputListener.isKeyPressed(TRACKED_KEYS[i])) {
+                mask |= 1 << i;
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * Finds the bit of a key in a key mask.
+     *
+     * @param keyCode The code of the key.
+     * @return The index of the key's bit, or -1 if the key is not tracked.
+     */
+    public static int bitOf(int keyCode) {
+        for (int i = 0; i < TRACKED_KEYS.length; i++) {
+            if (TRACKED_KEYS[i] == keyCode) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Appends a frame to the recording.
+     *
+     * @param deltaTime The time step of the frame, in seconds.
+     * @param keyMask   The state of the tracked keys in the frame.
+     */
+    public void addFrame(float deltaTime, int keyMask) {
+        if (frameCount == deltaTimes.length) {
+            deltaTimes = Arrays.copyOf(deltaTimes, frameCount * 2);
+            keyMasks = Arrays.copyOf(keyMasks, frameCount * 2);
+        }
+        deltaTimes[frameCount] = deltaTime;
+        keyMasks[frameCount] = (byte) keyMask;
+        frameCount++;
+    }
+
+    @Override
+    public boolean isKeyPressed(long frame, int keyCode) {
+        int bit = bitOf(keyCode);
+        return bit >= 0 && frame < frameCount && (keyMasks[(int) frame] & (1 << bit)) != 0;
+    }
+
+    /**
+     * @param frame The number of the frame.
+     * @return The time step of the frame, in seconds.
+     */
+    public float getDeltaTime(long frame) {
+        return deltaTimes[(int) frame];
+    }
+
+    /**
+     * @return The number of recorded frames.
+     */
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * @return The seed the recorded game was started with.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * @return The number of rows in the brick wall of the recorded game.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * @return The number of columns in the brick wall of the recorded game.
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * @return The dimensions of the window of the recorded game.
+     */
+    public Vector2 getWindowDimensions() {
+        return windowDimensions;
+    }
+
+    /**
+     * Writes the recording in its binary format.
+     *
+     * @param outputStream The stream to write to. It is not closed.
+     * @throws IOException If writing fails.
+     */
+    public void writeTo(OutputStream outputStream) throws IOException {
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(seed);
+        out.writeInt(rows);
+        out.writeInt(cols);
+        out.writeFloat(windowDimensions.x());
+        out.writeFloat(windowDimensions.y());
+        out.writeInt(frameCount);
+        for (int i = 0; i < frameCount; i++) {
+            out.writeFloat(deltaTimes[i]);
+        }
+        //key masks as (mask, run length) pairs
+        int frame = 0;
+        while (frame < frameCount) {
+            int runEnd = frame + 1;
+            while (runEnd < frameCount && keyMasks[runEnd] == keyMasks[frame]) {
+                runEnd++;
+            }
+            out.writeByte(keyMasks[frame]);
+            out.writeInt(runEnd - frame);
+            frame = runEnd;
+        }
+        out.flush();
+    }
+
+    /**
+     * Reads a recording written by {@link #writeTo(OutputStream)}.
+     *
+     * @param inputStream The stream to read from. It is not closed.
+     * @return The read recording.
+     * @throws IOException If reading fails or the data is not a recording.
+     */
+    public static InputRecording readFrom(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(inputStream);
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Not a Bricker input recording");
+        }
+        long seed = in.readLong();
+        int rows = in.readInt();
+        int cols = in.readInt();
+        Vector2 windowDimensions = new Vector2(in.readFloat(), in.readFloat());
+        InputRecording recording = new InputRecording(seed, rows, cols, windowDimensions);
+        int frameCount = in.readInt();
+        float[] deltaTimes = new float[frameCount];
+        for (int i = 0; i < frameCount; i++) {
+            deltaTimes[i] = in.readFloat();
+        }
+        int frame = 0;
+        while (frame < frameCount) {
+            byte mask = in.readByte();
+            int runLength = in.readInt();
+            for (int i = 0; i < runLength; i++, frame++) {
+                recording.addFrame(deltaTimes[frame], mask);
+            }
+        }
+        return recording;
+    }
+}
@@ -0,0 +1,39 @@
+package bricker.simulation;
+
+import java.awt.event.KeyEvent;
+
+/**
+ * A script of the keys pressed during a headless run, frame by frame.
+ * Used instead of a real keyboard to move the paddle.
+ */
+@FunctionalInterface
+public interface PaddleScript {
+
+    /**
+     * A script that never presses any key.
+     */
+    PaddleScript IDLE = (frame, keyCode) -> false;
+
+    /**
+     * Checks whether a key is pressed in a given frame.
+     *
+     * @param frame   The number of the current frame, starting from 0.
+     * @param keyCode The code of the key, as defined in {@link KeyEvent}.
+     * @return true if the key is pressed in the given frame, false otherwise.
+     */
+    boolean isKeyPressed(long frame, int keyCode);
+
+    /**
+     * Creates a script that moves the paddle left and right, switching direction every given number of
+     * frames.
+     *
+     * @param framesPerSide The number of frames to keep moving in each direction.
+     * @return The created script.
+     */
+    static PaddleScript sweep(int framesPerSide) {
+        return (frame, keyCode) -> {
+            boolean movingLeft = (frame / framesPerSide) % 2 == 0;
+            return keyCode == (movingLeft ? KeyEvent.VK_LEFT : KeyEvent.VK_RIGHT);
+        };
+    }
+}
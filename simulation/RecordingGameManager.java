@@ -0,0 +1,123 @@
+package bricker.simulation;
+
+import bricker.main.BrickerGameManager;
+import danogl.gui.ImageReader;
+import danogl.gui.SoundReader;
+import danogl.gui.UserInputListener;
+import danogl.gui.WindowController;
+import danogl.util.Vector2;
+
+import java.io.BufferedOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+
+/**
+ * A Bricker game that records its session while it is played.
+ * The game is seeded, and the state of the keys is sampled once at the start of every frame; the game
+ * reads the keys from that sample, so a replay sees exactly what the recorded game saw.
+ */
+public class RecordingGameManager extends BrickerGameManager {
+    private final InputRecording recording;
+    private UserInputListener realInput;
+    private int keyMask;
+
+    /**
+     * Constructs a new bricker.simulation.RecordingGameManager instance.
+     *
+     * @param windowTitle      The title of the game window.
+     * @param windowDimensions The dimensions of the game window.
+     * @param rows             The number of rows in the game layout.
+     * @param cols             The number of columns in the game layout.
+     * @param seed             The seed of the game.
+     */
+    public RecordingGameManager(String windowTitle, Vector2 windowDimensions, int rows, int cols,
+                                long seed) {
+        super(windowTitle, windowDimensions, rows, cols);
+        this.recording = new InputRecording(seed, rows, cols, windowDimensions);
+        setSeed(seed);
+    }
+
+    /**
+     * Initializes the game with an input listener that answers the tracked keys from the sample of the
+     * current frame.
+     *
+     * @param imageReader      Utility for reading and managing game images.
+     * @param soundReader      Utility for reading and managing game sounds.
+     * @param inputListener    Listener for user inputs.
+     * @param windowController Controller for managing the game window.
+     */
+    @Override
+    public void initializeGame(ImageReader imageReader, SoundReader soundReader,
+                               UserInputListener inputListener, WindowController windowController) {
+        super.initializeGame(imageReader, soundReader, sampledInput(inputListener), windowController);
+    }
+
+    /**
+     * Samples the keys, records the frame and updates the game.
+     *
+     * @param deltaTime The time elapsed since the last update.
+     */
+    @Override
+    public void update(float deltaTime) {
+        keyMask = InputRecording.maskOf(realInput);
+        recording.addFrame(deltaTime, keyMask);
+        super.update(deltaTime);
+    }
+
+    /**
+     * @return The recording of the session so far.
+     */
+    public InputRecording getRecording() {
+        return recording;
+    }
+
+    /**
+     * Wraps the real input listener, answering the tracked keys from the sample of the current frame.
+     *
+     * @param inputListener The real input listener.
+     * @return The wrapping input listener.
+     */
+    private UserInputListener sampledInput(UserInputListener inputListener) {
+        this.realInput = inputListener;
+        return (UserInputListener) Proxy.newProxyInstance(UserInputListener.class.getClassLoader(),
+                new Class<?>[]{UserInputListener.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("isKeyPressed")) {
+                        int bit = InputRecording.bitOf((Integer) args[0]);
+                        if (bit >= 0) {
+                            return (keyMask & (1 << bit)) != 0;
+                        }
+                    }
+                    try {
+                        return method.invoke(inputListener, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    /**
+     * Plays the game in a window and writes the recording of the session to a file when the program
+     * exits.
+     *
+     * @param args The recording file, optionally followed by the number of rows and cols for the brick
+     *             wall.
+     */
+    public static void main(String[] args) {
+        String path = args.length >= 1 ? args[0] : "session.rec";
+        int rows = args.length == 3 ? Integer.parseInt(args[1]) : 7;
+        int cols = args.length == 3 ? Integer.parseInt(args[2]) : 8;
+        RecordingGameManager game = new RecordingGameManager("Bricker", new Vector2(500, 650), rows, cols,
+                System.nanoTime());
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try (OutputStream out = new BufferedOutputStream(new FileOutputStream(path))) {
+                game.getRecording().writeTo(out);
+            } catch (IOException e) {
+                System.err.println("Failed to save the recording: " + e.getMessage());
+            }
+        }));
+        game.run();
+    }
+}
@@ -0,0 +1,58 @@
+package bricker.simulation;
+
+import bricker.main.BrickerGameManager;
+
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Replays a recorded session in a headless run.
+ * The game is started from the recorded seed and layout and fed the recorded key states and time steps,
+ * so it goes through the same states, frame by frame, as the recorded game.
+ */
+public final class Replay {
+
+    private Replay() {
+    }
+
+    /**
+     * Replays a recording from its start to its last frame.
+     *
+     * @param recording The recording to replay.
+     * @return The runner that replayed the recording, holding the game in its final state.
+     */
+    public static HeadlessRunner replay(InputRecording recording) {
+        BrickerGameManager game = new BrickerGameManager("Bricker", recording.getWindowDimensions(),
+                recording.getRows(), recording.getCols());
+        game.setSeed(recording.getSeed());
+        HeadlessRunner runner = new HeadlessRunner(game, recording);
+        runner.initialize();
+        while (runner.getFrame() < recording.getFrameCount() && !runner.isClosed()) {
+            runner.step(recording.getDeltaTime(runner.getFrame()));
+        }
+        return runner;
+    }
+
+    /**
+     * Replays a recording file and prints how fast it was simulated.
+     *
+     * @param args The recording file, optionally followed by the number of times to replay it.
+     * @throws IOException If the recording can't be read.
+     */
+    public static void main(String[] args) throws IOException {
+        System.setProperty("java.awt.headless", "true");
+        InputRecording recording;
+        try (InputStream in = new BufferedInputStream(new FileInputStream(args[0]))) {
+            recording = InputRecording.readFrom(in);
+        }
+        int times = args.length >= 2 ? Integer.parseInt(args[1]) : 1;
+        for (int i = 0; i < times; i++) {
+            long start = System.nanoTime();
+            HeadlessRunner runner = replay(recording);
+            System.out.println(new SimulationResult(runner.getFrame(), runner.getGames(),
+                    System.nanoTime() - start));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package bricker.simulation;
+
+import bricker.main.BrickerGameManager;
+import danogl.util.Vector2;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs many independent headless games at once on a pool of threads.
+ * Every game has its own manager, runner and seed, and games share no state, so the throughput of the
+ * host grows with the number of threads until the cores run out.
+ */
+public class SimulationHost {
+    private static final Vector2 WINDOW_DIMENSIONS = new Vector2(500, 650);
+    private static final float DEF_DELTA_TIME = 1f / 60;
+    private static final int DEF_INSTANCES = 64;
+    private static final long DEF_FRAMES = 10_000;
+    private static final int SWEEP_FRAMES = 60;
+
+    private final int instances;
+    private final int threads;
+    private final int rows;
+    private final int cols;
+    private long baseSeed;
+    private List<SimulationResult> results = Collections.emptyList();
+
+    /**
+     * Constructs a new bricker.simulation.SimulationHost instance.
+     *
+     * @param instances The number of games to run.
+     * @param threads   The number of threads to run the games on.
+     * @param rows      The number of brick rows of every game.
+     * @param cols      The number of brick columns of every game.
+     */
+    public SimulationHost(int instances, int threads, int rows, int cols) {
+        this.instances = instances;
+        this.threads = threads;
+        this.rows = rows;
+        this.cols = cols;
+    }
+
+    /**
+     * Sets the seed of the first game. The game at index i is seeded with the base seed plus i, so a run
+     * can be repeated exactly.
+     *
+     * @param baseSeed The seed of the first game.
+     */
+    public void setBaseSeed(long baseSeed) {
+        this.baseSeed = baseSeed;
+    }
+
+    /**
+     * Runs every game for the given number of frames, or until it closes its window.
+     *
+     * @param frames    The number of frames to run each game for.
+     * @param deltaTime The time that passes in a frame, in seconds.
+     * @return The totals of all the games, over the time it took to run all of them.
+     */
+    public SimulationResult run(long frames, float deltaTime) {
+        List<Callable<SimulationResult>> tasks = new ArrayList<>(instances);
+        for (int i = 0; i < instances; i++) {
+            long seed = baseSeed + i;
+            tasks.add(() -> createRunner(seed).run(frames, deltaTime));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "bricker-simulation");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            long start = System.nanoTime();
+            List<Future<SimulationResult>> futures = executor.invokeAll(tasks);
+            List<SimulationResult> finished = new ArrayList<>(instances);
+            for (Future<SimulationResult> future : futures) {
+                finished.add(future.get());
+            }
+            long elapsed = System.nanoTime() - start;
+            results = Collections.unmodifiableList(finished);
+            long totalFrames = 0;
+            int totalGames = 0;
+            for (SimulationResult result : finished) {
+                totalFrames += result.getFrames();
+                totalGames += result.getGames();
+            }
+            return new SimulationResult(totalFrames, totalGames, elapsed);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        }
+        catch (ExecutionException e) {
+            throw new IllegalStateException("Simulated game failed", e.getCause());
+        }
+        finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return The results of the games of the last run, in the order of their seeds.
+     */
+    public List<SimulationResult> getResults() {
+        return results;
+    }
+
+    /**
+     * Creates an independent game and its runner.
+     *
+     * @param seed The seed of the game.
+     * @return The runner of the game.
+     */
+    private HeadlessRunner createRunner(long seed) {
+        BrickerGameManager game = new BrickerGameManager("Bricker", WINDOW_DIMENSIONS, rows, cols);
+        game.setSeed(seed);
+        return new HeadlessRunner(game, PaddleScript.sweep(SWEEP_FRAMES));
+    }
+
+    /**
+     * Runs many headless games at once and prints the totals.
+     *
+     * @param args The number of games, the frames per game and the number of threads, all optional.
+     *             The threads default to the number of available processors.
+     */
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        int instances = args.length >= 1 ? Integer.parseInt(args[0]) : DEF_INSTANCES;
+        long frames = args.length >= 2 ? Long.parseLong(args[1]) : DEF_FRAMES;
+        int threads = args.length >= 3 ? Integer.parseInt(args[2]) :
+                Runtime.getRuntime().availableProcessors();
+        SimulationHost host = new SimulationHost(instances, threads, 7, 8);
+        System.out.println(host.run(frames, DEF_DELTA_TIME) + " on " + threads + " threads");
+    }
+}
@@ -0,0 +1,66 @@
+package bricker.simulation;
+
+/**
+ * The result of a headless run: how much was simulated and how long it took.
+ */
+public class SimulationResult {
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final long frames;
+    private final int games;
+    private final long elapsedNanos;
+
+    /**
+     * Constructs a new bricker.simulation.SimulationResult instance.
+     *
+     * @param frames       The number of frames simulated.
+     * @param games        The number of games played, including the one in progress.
+     * @param elapsedNanos The real time the simulation took, in nanoseconds.
+     */
+    public SimulationResult(long frames, int games, long elapsedNanos) {
+        this.frames = frames;
+        this.games = games;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return The number of frames simulated.
+     */
+    public long getFrames() {
+        return frames;
+    }
+
+    /**
+     * @return The number of games played, including the one in progress.
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * @return The real time the simulation took, in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return The number of frames simulated per second of real time.
+     */
+    public double getFramesPerSecond() {
+        return elapsedNanos == 0 ? 0 : frames * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    /**
+     * @return The number of games simulated per second, or 0 if no time was measured.
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : games * NANOS_PER_SECOND / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d frames, %d games in %.3f s (%.1f frames/s, %.2f games/s)", frames, games,
+                elapsedNanos / NANOS_PER_SECOND, getFramesPerSecond(), getGamesPerSecond());
+    }
+}
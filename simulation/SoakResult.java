@@ -0,0 +1,72 @@
+package bricker.simulation;
+
+/**
+ * The result of a soak test: how fast complete games were played and how much they held at the peak.
+ */
+public class SoakResult {
+    private static final double NANOS_PER_SECOND = 1e9;
+    private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    private final SimulationResult simulation;
+    private final long bricksBroken;
+    private final int peakObjects;
+    private final long peakHeapBytes;
+
+    /**
+     * Constructs a new bricker.simulation.SoakResult instance.
+     *
+     * @param simulation    The frames, games and time of the test.
+     * @param bricksBroken  The number of bricks broken in all the games.
+     * @param peakObjects   The largest number of live balls, pucks, hearts, paddles and bricks in a frame.
+     * @param peakHeapBytes The largest heap usage sampled during the test, in bytes.
+     */
+    public SoakResult(SimulationResult simulation, long bricksBroken, int peakObjects, long peakHeapBytes) {
+        this.simulation = simulation;
+        this.bricksBroken = bricksBroken;
+        this.peakObjects = peakObjects;
+        this.peakHeapBytes = peakHeapBytes;
+    }
+
+    /**
+     * @return The frames, games and time of the test.
+     */
+    public SimulationResult getSimulation() {
+        return simulation;
+    }
+
+    /**
+     * @return The number of bricks broken in all the games.
+     */
+    public long getBricksBroken() {
+        return bricksBroken;
+    }
+
+    /**
+     * @return The number of bricks broken per second of real time.
+     */
+    public double getBricksPerSecond() {
+        long elapsed = simulation.getElapsedNanos();
+        return elapsed == 0 ? 0 : bricksBroken * NANOS_PER_SECOND / elapsed;
+    }
+
+    /**
+     * @return The largest number of live game entities in a frame.
+     */
+    public int getPeakObjects() {
+        return peakObjects;
+    }
+
+    /**
+     * @return The largest heap usage sampled during the test, in bytes.
+     */
+    public long getPeakHeapBytes() {
+        return peakHeapBytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s%n%d bricks broken (%.1f bricks/s), peak %d objects, peak heap %.1f MB",
+                simulation, bricksBroken, getBricksPerSecond(), peakObjects,
+                peakHeapBytes / BYTES_PER_MEGABYTE);
+    }
+}
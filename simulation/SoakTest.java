@@ -0,0 +1,121 @@
+package bricker.simulation;
+
+import bricker.gameobjects.EntityKind;
+import bricker.main.BrickRegistry;
+import bricker.main.BrickerGameManager;
+import bricker.main.EntityIndex;
+import bricker.main.PuckSimulator;
+import danogl.util.Vector2;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+/**
+ * Plays complete games unattended with the {@link AutoPlayer}, starting a new game whenever one ends,
+ * and measures the throughput and the peak footprint of the game. This is the standard macro-benchmark
+ * of the game: unlike the microbenchmarks, it covers whole games, resets included.
+ */
+public class SoakTest {
+    private static final Vector2 WINDOW_DIMENSIONS = new Vector2(500, 650);
+    private static final float DEF_DELTA_TIME = 1f / 60;
+    private static final long DEF_FRAMES = 1_000_000;
+    private static final int HEAP_SAMPLE_FRAMES = 60;
+
+    private final BrickerGameManager game;
+    private final HeadlessRunner runner;
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    private BrickRegistry bricks;
+    private int liveBricks;
+    private long bricksBroken;
+    private int peakObjects;
+    private long peakHeapBytes;
+
+    /**
+     * Constructs a new bricker.simulation.SoakTest instance for a game.
+     *
+     * @param game The game to play. It should not be initialized yet.
+     */
+    public SoakTest(BrickerGameManager game) {
+        this.game = game;
+        this.runner = new HeadlessRunner(game, new AutoPlayer(game));
+    }
+
+    /**
+     * Plays games for the given number of frames, or until the window is closed.
+     *
+     * @param frames    The number of frames to play.
+     * @param deltaTime The time that passes in a frame, in seconds.
+     * @return The throughput and peak footprint of the test.
+     */
+    public SoakResult run(long frames, float deltaTime) {
+        runner.initialize();
+        bricks = null;
+        bricksBroken = 0;
+        peakObjects = 0;
+        peakHeapBytes = 0;
+        long start = System.nanoTime();
+        while (runner.getFrame() < frames && !runner.isClosed()) {
+            runner.step(deltaTime);
+            measureFrame();
+        }
+        SimulationResult simulation = new SimulationResult(runner.getFrame(), runner.getGames(),
+                System.nanoTime() - start);
+        return new SoakResult(simulation, bricksBroken, peakObjects, peakHeapBytes);
+    }
+
+    /**
+     * @return The runner playing the games.
+     */
+    public HeadlessRunner getRunner() {
+        return runner;
+    }
+
+    /**
+     * Counts the bricks broken in the last frame and updates the peaks.
+     */
+    private void measureFrame() {
+        BrickRegistry current = game.getBrickRegistry();
+        if (bricks != null) {
+            //a new game builds a new wall but leaves the old registry as it was, so the bricks broken in
+            //the frame that ended the game are still counted
+            bricksBroken += Math.max(0, liveBricks - bricks.getLiveCount());
+        }
+        bricks = current;
+        liveBricks = current.getLiveCount();
+
+        EntityIndex entities = game.getEntities();
+        int objects = 0;
+        for (EntityKind kind : EntityKind.values()) {
+            objects += entities.count(kind);
+        }
+        PuckSimulator swarm = game.getPuckSwarm();
+        if (swarm != null) {
+            objects += swarm.size();
+        }
+        peakObjects = Math.max(peakObjects, objects);
+
+        if (runner.getFrame() % HEAP_SAMPLE_FRAMES == 0) {
+            peakHeapBytes = Math.max(peakHeapBytes, memory.getHeapMemoryUsage().getUsed());
+        }
+    }
+
+    /**
+     * Plays games unattended and prints the throughput and peak footprint.
+     *
+     * @param args Optional: number of frames, then number of rows and cols for the brick wall.
+     */
+    public static void main(String[] args) {
+        System.setProperty("java.awt.headless", "true");
+        long frames = args.length >= 1 ? Long.parseLong(args[0]) : DEF_FRAMES;
+        BrickerGameManager game;
+        if (args.length == 3) {
+            game = new BrickerGameManager("Bricker", WINDOW_DIMENSIONS,
+                    Integer.parseInt(args[1]), Integer.parseInt(args[2]));
+        }
+        else {
+            game = new BrickerGameManager("Bricker", WINDOW_DIMENSIONS);
+        }
+        System.out.println(new SoakTest(game).run(frames, DEF_DELTA_TIME));
+    }
+}